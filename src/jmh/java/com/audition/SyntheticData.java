@@ -0,0 +1,50 @@
+package com.audition;
+
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class SyntheticData {
+
+    private static final String[] WORDS = {
+        "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "eiusmod",
+        "tempor", "incididunt", "labore", "dolore", "magna", "aliqua", "veniam", "quis", "nostrud",
+        "exercitation", "ullamco", "laboris", "nisi", "aliquip", "commodo", "consequat", "Quarterly"
+    };
+
+    private SyntheticData() {
+    }
+
+    public static List<AuditionPost> posts(final int count) {
+        final Random random = new Random(42);
+        final List<AuditionPost> posts = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            posts.add(new AuditionPost(id % 10, id, sentence(random, 4), sentence(random, 30)));
+        }
+        return posts;
+    }
+
+    public static List<AuditionComment> comments(final int count) {
+        final Random random = new Random(7);
+        final List<AuditionComment> comments = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            comments.add(new AuditionComment(id, sentence(random, 5), "user" + id + "@example.com",
+                sentence(random, 25)));
+        }
+        return comments;
+    }
+
+    private static String sentence(final Random random, final int words) {
+        final StringBuilder sentence = new StringBuilder();
+        for (int word = 0; word < words; word++) {
+            if (word > 0) {
+                sentence.append(' ');
+            }
+            final String next = WORDS[random.nextInt(WORDS.length)];
+            sentence.append(word == 0 ? Character.toUpperCase(next.charAt(0)) + next.substring(1) : next);
+        }
+        return sentence.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.audition.common.logging;
+
+import static net.logstash.logback.argument.StructuredArguments.value;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.logstash.logback.composite.loggingevent.ArgumentsJsonProvider;
+import net.logstash.logback.composite.loggingevent.LogLevelJsonProvider;
+import net.logstash.logback.composite.loggingevent.LoggerNameJsonProvider;
+import net.logstash.logback.composite.loggingevent.LoggingEventFormattedTimestampJsonProvider;
+import net.logstash.logback.composite.loggingevent.LoggingEventThreadNameJsonProvider;
+import net.logstash.logback.composite.loggingevent.MdcJsonProvider;
+import net.logstash.logback.composite.loggingevent.MessageJsonProvider;
+import net.logstash.logback.encoder.LoggingEventCompositeJsonEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// encodes the event AuditionLogger writes for a problem detail, once with the console pattern and once as JSON
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogEncoderBenchmark {
+
+    private static final Map<String, String> MDC = Map.of("traceId", "6f9619ff8b86d011", "spanId", "b4c7a6e2d9f0a1b3");
+
+    private Logger logger;
+    private PatternLayoutEncoder patternEncoder;
+    private LoggingEventCompositeJsonEncoder jsonEncoder;
+
+    @Setup
+    public void setUp() {
+        final LoggerContext context = new LoggerContext();
+        logger = context.getLogger("com.audition.web.advice.ExceptionControllerAdvice");
+
+        patternEncoder = new PatternLayoutEncoder();
+        patternEncoder.setContext(context);
+        patternEncoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %5p [audition-api,%X{traceId:-},%X{spanId:-}] "
+            + "--- [%15.15t] %-40.40logger{39} : %m%n");
+        patternEncoder.start();
+
+        jsonEncoder = new LoggingEventCompositeJsonEncoder();
+        jsonEncoder.setContext(context);
+        jsonEncoder.getProviders().addProvider(new LoggingEventFormattedTimestampJsonProvider());
+        jsonEncoder.getProviders().addProvider(new LogLevelJsonProvider());
+        jsonEncoder.getProviders().addProvider(new LoggerNameJsonProvider());
+        jsonEncoder.getProviders().addProvider(new LoggingEventThreadNameJsonProvider());
+        jsonEncoder.getProviders().addProvider(new MessageJsonProvider());
+        jsonEncoder.getProviders().addProvider(new MdcJsonProvider());
+        jsonEncoder.getProviders().addProvider(new ArgumentsJsonProvider());
+        jsonEncoder.start();
+    }
+
+    // a fresh event per call, so message formatting is measured rather than served from the event's cache
+    private LoggingEvent event() {
+        final LoggingEvent event = new LoggingEvent(Logger.FQCN, logger, Level.ERROR, "Title: {}, Status: {}, Detail: {}",
+            null, new Object[] {value("title", "Resource Not Found"), value("status", 404),
+                value("detail", "Cannot find post with ID 1")});
+        event.setMDCPropertyMap(MDC);
+        return event;
+    }
+
+    @Benchmark
+    public byte[] patternLayout() {
+        return patternEncoder.encode(event());
+    }
+
+    @Benchmark
+    public byte[] compositeJson() {
+        return jsonEncoder.encode(event());
+    }
+}
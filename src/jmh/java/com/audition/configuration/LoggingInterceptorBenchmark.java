@@ -0,0 +1,69 @@
+package com.audition.configuration;
+
+import com.audition.common.logging.AuditionLogger;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingInterceptorBenchmark {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    @Param({"0.0", "0.01", "1.0"})
+    public double bodySampleRate;
+
+    @Param({"0.1", "1.0"})
+    public double sampleRate;
+
+    private LoggingInterceptor loggingInterceptor;
+    private MockClientHttpRequest request;
+    private ClientHttpRequestExecution execution;
+
+    @Setup
+    public void setUp() {
+        final UpstreamLoggingProperties properties = new UpstreamLoggingProperties();
+        properties.setBodyEnabled(bodySampleRate > 0);
+        properties.setBodySampleRate(bodySampleRate);
+        properties.setSampleRate(sampleRate);
+        loggingInterceptor = new LoggingInterceptor(new AuditionLogger(), properties);
+
+        request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/posts"));
+        final byte[] responseBody = "[{\"id\":1,\"title\":\"Title\",\"body\":\"Body\"}]".repeat(100)
+            .getBytes(StandardCharsets.UTF_8);
+        execution = (httpRequest, body) -> new MockClientHttpResponse(responseBody, HttpStatus.OK);
+    }
+
+    @Benchmark
+    public ClientHttpResponse baseline() throws IOException {
+        return execution.execute(request, EMPTY_BODY);
+    }
+
+    @Benchmark
+    public ClientHttpResponse intercept() throws IOException {
+        return loggingInterceptor.intercept(request, EMPTY_BODY, execution);
+    }
+}
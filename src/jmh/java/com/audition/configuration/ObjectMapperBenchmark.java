@@ -0,0 +1,66 @@
+package com.audition.configuration;
+
+import com.audition.SyntheticData;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectMapperBenchmark {
+
+    @Param({"100", "500"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private AuditionPost[] posts;
+    private AuditionComment[] comments;
+    private byte[] postsJson;
+    private byte[] commentsJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new WebServiceConfiguration().objectMapper();
+        posts = SyntheticData.posts(size).toArray(new AuditionPost[0]);
+        comments = SyntheticData.comments(size).toArray(new AuditionComment[0]);
+        postsJson = objectMapper.writeValueAsBytes(posts);
+        commentsJson = objectMapper.writeValueAsBytes(comments);
+    }
+
+    @Benchmark
+    public byte[] serializePosts() throws IOException {
+        return objectMapper.writeValueAsBytes(posts);
+    }
+
+    @Benchmark
+    public AuditionPost[] deserializePosts() throws IOException {
+        return objectMapper.readValue(postsJson, AuditionPost[].class);
+    }
+
+    @Benchmark
+    public byte[] serializeComments() throws IOException {
+        return objectMapper.writeValueAsBytes(comments);
+    }
+
+    @Benchmark
+    public AuditionComment[] deserializeComments() throws IOException {
+        return objectMapper.readValue(commentsJson, AuditionComment[].class);
+    }
+}
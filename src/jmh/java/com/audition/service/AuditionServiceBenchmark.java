@@ -0,0 +1,66 @@
+package com.audition.service;
+
+import com.audition.SyntheticData;
+import com.audition.cache.AuditionCache;
+import com.audition.cache.CacheProperties;
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.integration.AuditionIntegrationClient;
+import com.audition.integration.UpstreamProperties;
+import com.audition.model.AuditionPost;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditionServiceBenchmark {
+
+    @Param({"100", "10000"})
+    public int corpusSize;
+
+    @Param({"", "dolor", "quarterly magna"})
+    public String filter;
+
+    private AuditionService auditionService;
+
+    @Setup
+    public void setUp() {
+        final List<AuditionPost> posts = SyntheticData.posts(corpusSize);
+        final AuditionIntegrationClient upstream = new AuditionIntegrationClient() {
+            @Override
+            public List<AuditionPost> getPosts() {
+                return posts;
+            }
+        };
+
+        final CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getPosts().setMaxWeight(DataSize.ofMegabytes(64));
+        final AuditionCache auditionCache = new AuditionCache(upstream, cacheProperties,
+            new WebServiceConfiguration().objectMapper(), new SimpleMeterRegistry(), Runnable::run);
+
+        auditionService = new AuditionService(auditionCache, upstream, new UpstreamProperties(),
+            new PostSearchIndex(new SearchProperties()), new BatchProperties(), Runnable::run);
+        auditionService.getPosts(filter);
+    }
+
+    @Benchmark
+    public List<AuditionPost> getPosts() {
+        return auditionService.getPosts(filter);
+    }
+}
@@ -0,0 +1,76 @@
+package com.audition.service;
+
+import com.audition.SyntheticData;
+import com.audition.model.AuditionPost;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostFilterBenchmark {
+
+    @Param("100000")
+    public int corpusSize;
+
+    @Param({"quarterly", "ex", "missing"})
+    public String filter;
+
+    private List<AuditionPost> posts;
+    private PostSearchIndex postSearchIndex;
+
+    @Setup
+    public void setUp() {
+        posts = SyntheticData.posts(corpusSize);
+
+        final SearchProperties searchProperties = new SearchProperties();
+        searchProperties.setMaxResults(Integer.MAX_VALUE);
+        postSearchIndex = new PostSearchIndex(searchProperties);
+        postSearchIndex.search(posts, filter);
+    }
+
+    @Benchmark
+    public int lowerCaseScan() {
+        final String lowerCaseFilter = filter.toLowerCase(Locale.ROOT);
+        int matches = 0;
+        for (final AuditionPost post : posts) {
+            if (post.getTitle().toLowerCase(Locale.ROOT).contains(lowerCaseFilter)
+                || post.getBody().toLowerCase(Locale.ROOT).contains(lowerCaseFilter)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int regionMatchingScan() {
+        int matches = 0;
+        for (final AuditionPost post : posts) {
+            if (CaseInsensitiveMatcher.contains(post.getTitle(), filter)
+                || CaseInsensitiveMatcher.contains(post.getBody(), filter)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int searchIndex() {
+        return postSearchIndex.search(posts, filter).size();
+    }
+}
@@ -0,0 +1,68 @@
+package com.audition.web;
+
+import com.audition.SyntheticData;
+import com.audition.cache.Versioned;
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.model.AuditionPost;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+// what one response body costs: Jackson over the object graph versus copying cached bytes
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseBodyBenchmark {
+
+    @Param({"1", "100", "500"})
+    public int size;
+
+    private MappingJackson2HttpMessageConverter jsonConverter;
+    private ByteArrayHttpMessageConverter bytesConverter;
+    private PrecompressedPayloads precompressedPayloads;
+    private Versioned<List<AuditionPost>> posts;
+
+    @Setup
+    public void setUp() {
+        final WebServiceConfiguration configuration = new WebServiceConfiguration();
+        jsonConverter = new MappingJackson2HttpMessageConverter(configuration.objectMapper());
+        bytesConverter = new ByteArrayHttpMessageConverter();
+        precompressedPayloads = new PrecompressedPayloads(configuration.objectMapper(), new Compression(), false,
+            new ResponseCacheProperties());
+        posts = new Versioned<>(List.copyOf(SyntheticData.posts(size)), "1");
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage serializeObjects() throws IOException {
+        final MockHttpOutputMessage message = new MockHttpOutputMessage();
+        jsonConverter.write(posts.value(), MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writeCachedBytes() throws IOException {
+        final MockHttpOutputMessage message = new MockHttpOutputMessage();
+        bytesConverter.write(precompressedPayloads.get("posts", posts).bytes(ContentEncoding.IDENTITY),
+            MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+}
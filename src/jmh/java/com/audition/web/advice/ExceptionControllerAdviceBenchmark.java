@@ -0,0 +1,51 @@
+package com.audition.web.advice;
+
+import com.audition.common.exception.SystemException;
+import com.audition.common.logging.AuditionLogger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionControllerAdviceBenchmark {
+
+    private ExceptionControllerAdvice exceptionControllerAdvice;
+
+    @Setup
+    public void setUp() {
+        exceptionControllerAdvice = new ExceptionControllerAdvice(new AuditionLogger());
+    }
+
+    // the exception is created per invocation, as it is in the controller, so stack capture is part of the cost
+    @Benchmark
+    public ProblemDetail notFound() {
+        return exceptionControllerAdvice.handleSystemException(new SystemException("Cannot find post with ID 1",
+            "Resource Not Found", HttpStatus.NOT_FOUND.value()));
+    }
+
+    @Benchmark
+    public ProblemDetail unmappedStatus() {
+        return exceptionControllerAdvice.handleSystemException(new SystemException("Upstream failed",
+            "Error", 999));
+    }
+
+    @Benchmark
+    public ProblemDetail unexpectedException() {
+        return exceptionControllerAdvice.handleMainException(new IllegalStateException("Unexpected"));
+    }
+}
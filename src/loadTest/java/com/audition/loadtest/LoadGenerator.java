@@ -0,0 +1,125 @@
+package com.audition.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+// open-model generator: requests leave on a fixed schedule regardless of how fast responses come back, and latency
+// is measured from the intended send time so a stalled server cannot hide its queueing delay (coordinated omission)
+final class LoadGenerator implements AutoCloseable {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final int idRange;
+
+    LoadGenerator(final String baseUrl, final int idRange) {
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(executor)
+            .build();
+        this.baseUrl = baseUrl;
+        this.idRange = idRange;
+    }
+
+    Result run(final Scenario scenario, final int ratePerSecond, final Duration duration)
+        throws InterruptedException {
+        final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        final LongAdder failures = new LongAdder();
+        final AtomicLong sent = new AtomicLong();
+        final ConcurrentLinkedQueue<CompletableFuture<?>> inFlight = new ConcurrentLinkedQueue<>();
+        final AtomicLong outstanding = new AtomicLong();
+        final ResourceSampler sampler = new ResourceSampler(outstanding::get);
+
+        final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        final long start = System.nanoTime();
+        final long end = start + duration.toNanos();
+
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.scheduleAtFixedRate(() -> {
+            final long intended = start + sent.getAndIncrement() * intervalNanos;
+            if (intended >= end) {
+                return;
+            }
+            final HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + scenario.path(nextId())))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+            outstanding.incrementAndGet();
+            inFlight.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    outstanding.decrementAndGet();
+                    latencies.recordValue(Math.min(System.nanoTime() - intended, HIGHEST_TRACKABLE_NANOS));
+                    if (failure == null) {
+                        statuses.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+                    } else {
+                        failures.increment();
+                    }
+                }));
+        }, 0, intervalNanos, TimeUnit.NANOSECONDS);
+
+        TimeUnit.NANOSECONDS.sleep(end - System.nanoTime());
+        scheduler.shutdownNow();
+        final ResourceSampler.Resources resources = sampler.stop();
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+            .exceptionally(failure -> null)
+            .join();
+
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return new Result(scenario, latencies, statuses, failures.sum(), elapsed, resources);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private int nextId() {
+        return ThreadLocalRandom.current().nextInt(1, idRange + 1);
+    }
+
+    enum Scenario {
+        POSTS(id -> "/posts"),
+        POST_BY_ID(id -> "/posts/" + id),
+        POST_COMMENTS(id -> "/posts/" + id + "/comments"),
+        COMMENTS(id -> "/comments?postId=" + id);
+
+        private final IntFunction<String> pathForId;
+
+        Scenario(final IntFunction<String> pathForId) {
+            this.pathForId = pathForId;
+        }
+
+        String path(final int id) {
+            return pathForId.apply(id);
+        }
+    }
+
+    record Result(Scenario scenario, Histogram latencies, Map<Integer, LongAdder> statuses, long failures,
+                  Duration elapsed, ResourceSampler.Resources resources) {
+
+        double throughput() {
+            return latencies.getTotalCount() / (elapsed.toNanos() / 1e9);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.audition.loadtest;
+
+import com.audition.AuditionApplication;
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.loadtest.LoadGenerator.Result;
+import com.audition.loadtest.LoadGenerator.Scenario;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// boots the application against a local UpstreamStub and drives each endpoint at a fixed arrival rate;
+// arguments are passed through to the application, e.g. --application.threads.virtual-enabled=true.
+// A -Dloadtest.label names the run and gets it a report directory of its own; the loadTestPlatform and
+// loadTestVirtual tasks use it to run each thread model in a fresh JVM and loadTestCompare merges the two
+public final class LoadTestRunner {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final int rate = Integer.parseInt(System.getProperty("loadtest.rate", "200"));
+        final Duration warmup = DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "5s"));
+        final Duration duration = DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "30s"));
+        final String label = System.getProperty("loadtest.label");
+        final Path baseDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        final Path reportDir = label == null ? baseDir : baseDir.resolve(label);
+        final StubSettings stubSettings = StubSettings.fromSystemProperties();
+
+        final List<Result> results;
+        try (UpstreamStub stub = new UpstreamStub(stubSettings, new WebServiceConfiguration().objectMapper())) {
+            results = run(args, stub, stubSettings, rate, warmup, duration);
+        }
+
+        final String runName = label == null ? "default" : label;
+        report(runName, results, rate, stubSettings, reportDir);
+        resources(runName, results, reportDir.resolve("resources.csv"));
+    }
+
+    private static List<Result> run(final String[] args, final UpstreamStub stub, final StubSettings stubSettings,
+        final int rate, final Duration warmup, final Duration duration) throws InterruptedException {
+        // command-line arguments outrank application.yml, which default properties would not; the optional config
+        // server import is left alone because disabling the client makes its configserver: location unresolvable
+        final String[] runArgs = Stream.concat(
+            Stream.of("--server.port=0", "--application.upstream.base-url=" + stub.baseUrl()),
+            Arrays.stream(args)).toArray(String[]::new);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AuditionApplication.class)
+            .run(runArgs)) {
+            final int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            final List<Result> results = new ArrayList<>();
+            try (LoadGenerator generator = new LoadGenerator("http://localhost:" + port,
+                stubSettings.payloadSize())) {
+                for (final Scenario scenario : Scenario.values()) {
+                    generator.run(scenario, rate, warmup);
+                    results.add(generator.run(scenario, rate, duration));
+                }
+            }
+            return results;
+        }
+    }
+
+    private static void report(final String label, final List<Result> results, final int rate,
+        final StubSettings stubSettings, final Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        final PrintStream out = System.out;
+        out.printf(Locale.ROOT, "[%s] rate=%d/s stub latency=%s error-rate=%.3f payload-size=%d%n",
+            label, rate, stubSettings.latency(), stubSettings.errorRate(), stubSettings.payloadSize());
+        out.printf(Locale.ROOT, "%-14s %10s %9s %9s %9s %9s %9s %9s %9s %11s  %s%n",
+            "scenario", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "in-flight", "threads",
+            "heap KB/req", "status counts");
+
+        for (final Result result : results) {
+            final Map<Integer, Long> statuses = new TreeMap<>();
+            result.statuses().forEach((status, count) -> statuses.put(status, count.sum()));
+            final ResourceSampler.Resources resources = result.resources();
+            out.printf(Locale.ROOT, "%-14s %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.1f %9d %11.1f  %s failures=%d%n",
+                result.scenario(), result.throughput(),
+                millis(result, 50), millis(result, 90), millis(result, 99), millis(result, 99.9),
+                result.latencies().getMaxValue() / NANOS_PER_MILLI, resources.meanInFlight(),
+                resources.peakThreads(), resources.heapKbPerInFlight(), statuses, result.failures());
+
+            final Path histogram = reportDir.resolve(result.scenario().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream file = new PrintStream(Files.newOutputStream(histogram), false,
+                StandardCharsets.UTF_8)) {
+                result.latencies().outputPercentileDistribution(file, NANOS_PER_MILLI);
+            }
+        }
+        out.println("Latency histograms written to " + reportDir.toAbsolutePath());
+    }
+
+    // one row per scenario, in the layout loadTestCompare concatenates across runs
+    private static void resources(final String label, final List<Result> results, final Path file)
+        throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            out.println("threads,scenario,req_per_s,p99_ms,mean_in_flight,peak_platform_threads,"
+                + "threads_per_in_flight,live_heap_kb_per_in_flight");
+            for (final Result result : results) {
+                final ResourceSampler.Resources resources = result.resources();
+                out.printf(Locale.ROOT, "%s,%s,%.1f,%.2f,%.1f,%d,%.3f,%.1f%n", label, result.scenario(),
+                    result.throughput(), millis(result, 99), resources.meanInFlight(), resources.peakThreads(),
+                    resources.threadsPerInFlight(), resources.heapKbPerInFlight());
+            }
+        }
+    }
+
+    private static double millis(final Result result, final double percentile) {
+        return result.latencies().getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,65 @@
+package com.audition.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// samples in-flight requests, platform threads and live heap while a scenario runs. Platform thread stacks live
+// outside the heap, so the thread count stands in for them; virtual thread stacks are heap objects and show up in
+// the heap retained after the last collection. Generator and stub share the JVM but are the same in every run
+final class ResourceSampler {
+
+    private static final long INTERVAL_MILLIS = 100;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null)
+        .toList();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final LongSupplier inFlight;
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder inFlightTotal = new LongAdder();
+    private final LongAdder liveHeapTotal = new LongAdder();
+    private volatile int peakThreads;
+
+    ResourceSampler(final LongSupplier inFlight) {
+        this.inFlight = inFlight;
+        threads.resetPeakThreadCount();
+        scheduler.scheduleAtFixedRate(this::sample, 0, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void sample() {
+        samples.increment();
+        inFlightTotal.add(inFlight.getAsLong());
+        liveHeapTotal.add(heapPools.stream()
+            .map(MemoryPoolMXBean::getCollectionUsage)
+            .mapToLong(MemoryUsage::getUsed)
+            .sum());
+        peakThreads = threads.getPeakThreadCount();
+    }
+
+    Resources stop() {
+        scheduler.shutdownNow();
+        final long count = Math.max(1, samples.sum());
+        return new Resources((double) inFlightTotal.sum() / count, liveHeapTotal.sum() / count, peakThreads);
+    }
+
+    record Resources(double meanInFlight, long meanLiveHeapBytes, int peakThreads) {
+
+        double heapKbPerInFlight() {
+            return meanInFlight == 0 ? 0 : meanLiveHeapBytes / 1024.0 / meanInFlight;
+        }
+
+        double threadsPerInFlight() {
+            return meanInFlight == 0 ? 0 : peakThreads / meanInFlight;
+        }
+    }
+}
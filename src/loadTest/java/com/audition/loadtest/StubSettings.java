@@ -0,0 +1,14 @@
+package com.audition.loadtest;
+
+import java.time.Duration;
+import org.springframework.boot.convert.DurationStyle;
+
+record StubSettings(Duration latency, double errorRate, int payloadSize) {
+
+    static StubSettings fromSystemProperties() {
+        return new StubSettings(
+            DurationStyle.detectAndParse(System.getProperty("stub.latency", "50ms")),
+            Double.parseDouble(System.getProperty("stub.error-rate", "0.0")),
+            Integer.parseInt(System.getProperty("stub.payload-size", "100")));
+    }
+}
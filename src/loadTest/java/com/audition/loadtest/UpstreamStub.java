@@ -0,0 +1,166 @@
+package com.audition.loadtest;
+
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// stands in for jsonplaceholder with canned payloads, a fixed latency and a random 503 rate; like the real
+// upstream it honors _page/_limit on /posts and postId on /comments, so paging callers see a short last page
+final class UpstreamStub implements AutoCloseable {
+
+    private static final Pattern POST_PATH = Pattern.compile("/posts/(\\d+)");
+    private static final Pattern POST_COMMENTS_PATH = Pattern.compile("/posts/(\\d+)/comments");
+    private static final int COMMENTS_PER_POST = 5;
+    private static final byte[] EMPTY_ARRAY = {'[', ']'};
+
+    private final StubSettings settings;
+    private final ObjectMapper objectMapper;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<AuditionPost> posts;
+    private final byte[] postsJson;
+    private final byte[] commentsJson;
+    private final byte[] postCommentsJson;
+
+    UpstreamStub(final StubSettings settings, final ObjectMapper objectMapper) throws IOException {
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.posts = posts(settings.payloadSize());
+        this.postsJson = objectMapper.writeValueAsBytes(posts);
+        this.commentsJson = objectMapper.writeValueAsBytes(comments(settings.payloadSize()));
+        this.postCommentsJson = objectMapper.writeValueAsBytes(comments(COMMENTS_PER_POST));
+
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            pause();
+            if (ThreadLocalRandom.current().nextDouble() < settings.errorRate()) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            final byte[] body = route(exchange.getRequestURI());
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private byte[] route(final URI uri) throws JsonProcessingException {
+        final String path = uri.getPath();
+        final Map<String, String> query = query(uri);
+        if ("/posts".equals(path)) {
+            return query.containsKey("_page") ? postsPage(query) : postsJson;
+        }
+        if ("/comments".equals(path)) {
+            final String postId = query.get("postId");
+            if (postId == null) {
+                return commentsJson;
+            }
+            return exists(Integer.parseInt(postId)) ? postCommentsJson : EMPTY_ARRAY;
+        }
+
+        final Matcher postComments = POST_COMMENTS_PATH.matcher(path);
+        if (postComments.matches()) {
+            return exists(Integer.parseInt(postComments.group(1))) ? postCommentsJson : EMPTY_ARRAY;
+        }
+        final Matcher post = POST_PATH.matcher(path);
+        if (post.matches()) {
+            final int id = Integer.parseInt(post.group(1));
+            return exists(id) ? objectMapper.writeValueAsBytes(post(id)) : null;
+        }
+        return null;
+    }
+
+    private byte[] postsPage(final Map<String, String> query) throws JsonProcessingException {
+        final int page = Integer.parseInt(query.get("_page"));
+        final int limit = Integer.parseInt(query.getOrDefault("_limit", "10"));
+        final int from = Math.min((page - 1) * limit, posts.size());
+        final int to = Math.min(from + limit, posts.size());
+        return objectMapper.writeValueAsBytes(posts.subList(from, to));
+    }
+
+    private boolean exists(final int id) {
+        return id >= 1 && id <= settings.payloadSize();
+    }
+
+    private static Map<String, String> query(final URI uri) {
+        final Map<String, String> query = new HashMap<>();
+        if (uri.getRawQuery() != null) {
+            for (final String pair : uri.getRawQuery().split("&")) {
+                final int separator = pair.indexOf('=');
+                if (separator > 0) {
+                    query.put(pair.substring(0, separator), pair.substring(separator + 1));
+                }
+            }
+        }
+        return query;
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(settings.latency().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<AuditionPost> posts(final int count) {
+        final List<AuditionPost> posts = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            posts.add(post(id));
+        }
+        return posts;
+    }
+
+    private static AuditionPost post(final int id) {
+        return new AuditionPost(id % 10 + 1, id, "Title of post " + id,
+            "Body of post " + id + " " + "x".repeat(200));
+    }
+
+    private static List<AuditionComment> comments(final int count) {
+        final List<AuditionComment> comments = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            comments.add(new AuditionComment(id, "Comment " + id, "user" + id + "@example.com",
+                "Body of comment " + id + " " + "y".repeat(100)));
+        }
+        return comments;
+    }
+}
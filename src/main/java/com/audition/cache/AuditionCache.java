@@ -0,0 +1,195 @@
+package com.audition.cache;
+
+import com.audition.cache.CacheProperties.ResourceSpec;
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.TaskExecutionConfiguration;
+import com.audition.integration.AuditionIntegrationClient;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class AuditionCache {
+
+    private static final String ALL_POSTS_KEY = "all";
+    private static final int ALL_COMMENTS_KEY = 0;
+
+    private final AuditionIntegrationClient auditionIntegrationClient;
+    private final CachedResource<String, List<AuditionPost>> postsCache;
+    private final CachedResource<Integer, AuditionPost> postCache;
+    private final CachedResource<Integer, List<AuditionComment>> postCommentsCache;
+    private final CachedResource<Integer, List<AuditionComment>> commentsCache;
+
+    @Autowired
+    public AuditionCache(final AuditionIntegrationClient auditionIntegrationClient, final CacheProperties properties,
+        final ObjectMapper objectMapper, final MeterRegistry meterRegistry,
+        @Qualifier(TaskExecutionConfiguration.CACHE_REFRESH_EXECUTOR) final Executor refreshExecutor) {
+        this(auditionIntegrationClient, properties, objectMapper, meterRegistry, Ticker.systemTicker(), refreshExecutor);
+    }
+
+    AuditionCache(final AuditionIntegrationClient auditionIntegrationClient, final CacheProperties properties,
+        final ObjectMapper objectMapper, final MeterRegistry meterRegistry, final Ticker ticker,
+        final Executor refreshExecutor) {
+        this.auditionIntegrationClient = auditionIntegrationClient;
+
+        final CacheFactory factory = new CacheFactory(new PayloadWeigher(objectMapper), meterRegistry, ticker,
+            refreshExecutor, new AtomicLong());
+        this.postsCache = factory.create("posts", properties.getPosts(),
+            key -> List.copyOf(auditionIntegrationClient.getPosts()));
+        this.postCache = factory.create("post", properties.getPost(), auditionIntegrationClient::getPostById);
+        this.postCommentsCache = factory.create("post-comments", properties.getPostComments(),
+            postId -> List.copyOf(auditionIntegrationClient.getCommentsForPost(postId)));
+        this.commentsCache = factory.create("comments", properties.getComments(),
+            postId -> List.copyOf(auditionIntegrationClient.getComments(
+                postId == ALL_COMMENTS_KEY ? null : postId)));
+    }
+
+    public List<AuditionPost> getPosts() {
+        return getVersionedPosts().value();
+    }
+
+    public Versioned<List<AuditionPost>> getVersionedPosts() {
+        return postsCache.get(ALL_POSTS_KEY);
+    }
+
+    public AuditionPost getPostById(final int postId) {
+        return getVersionedPostById(postId).value();
+    }
+
+    public Versioned<AuditionPost> getVersionedPostById(final int postId) {
+        return postCache.get(postId);
+    }
+
+    public AuditionPost getCachedPost(final int postId) {
+        final Versioned<AuditionPost> cached = getCachedVersionedPost(postId);
+        return cached == null ? null : cached.value();
+    }
+
+    public Versioned<AuditionPost> getCachedVersionedPost(final int postId) {
+        return postCache.getIfPresent(postId);
+    }
+
+    public List<AuditionComment> getCommentsForPost(final int postId) {
+        return getVersionedCommentsForPost(postId).value();
+    }
+
+    public Versioned<List<AuditionComment>> getVersionedCommentsForPost(final int postId) {
+        return postCommentsCache.get(postId);
+    }
+
+    public Versioned<List<AuditionComment>> getCachedVersionedCommentsForPost(final int postId) {
+        return postCommentsCache.getIfPresent(postId);
+    }
+
+    public List<AuditionComment> getComments(final Integer postId) {
+        return getVersionedComments(postId).value();
+    }
+
+    public Versioned<List<AuditionComment>> getVersionedComments(final Integer postId) {
+        return commentsCache.get(postId == null ? ALL_COMMENTS_KEY : postId);
+    }
+
+    private record CacheFactory(PayloadWeigher weigher, MeterRegistry meterRegistry, Ticker ticker,
+                                Executor refreshExecutor, AtomicLong versions) {
+
+        <K, V> CachedResource<K, V> create(final String name, final ResourceSpec spec,
+            final CacheLoader<K, V> loader) {
+            final DistributionSummary payloadSize = DistributionSummary.builder("audition.cache.payload.size")
+                .description("Serialized size of upstream payloads stored in the cache")
+                .baseUnit(BaseUnits.BYTES)
+                .tag("cache", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+            final Counter fallbacks = Counter.builder("audition.cache.fallbacks")
+                .description("Requests answered with the last known value because the upstream was unavailable")
+                .tag("cache", name)
+                .register(meterRegistry);
+
+            // holds the entries the main cache also holds, so it only adds memory once entries expire; it is
+            // weighed like the main cache so a few large lists cannot pin more than its own budget
+            final Cache<K, Versioned<V>> lastKnown = Caffeine.newBuilder()
+                .maximumWeight(spec.getFallbackMaxWeight().toBytes())
+                .weigher((K key, Versioned<V> versioned) -> weigher.weigh(key, versioned.value()))
+                .build();
+
+            // the version lives in the entry itself, so every cached value has one for as long as it is cached
+            final LoadingCache<K, Versioned<V>> cache = Caffeine.newBuilder()
+                .refreshAfterWrite(spec.getTtl())
+                .expireAfterWrite(spec.getTtl().plus(spec.getStaleTtl()))
+                .maximumWeight(spec.getMaxWeight().toBytes())
+                .weigher((K key, Versioned<V> versioned) -> {
+                    final int weight = weigher.weigh(key, versioned.value());
+                    payloadSize.record(weight);
+                    return weight;
+                })
+                .ticker(ticker)
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(new CacheLoader<K, Versioned<V>>() {
+                    @Override
+                    public Versioned<V> load(final K key) throws Exception {
+                        return track(lastKnown, key, loader.load(key), lastKnown.getIfPresent(key));
+                    }
+
+                    @Override
+                    public Versioned<V> reload(final K key, final Versioned<V> oldValue) throws Exception {
+                        return track(lastKnown, key, loader.load(key), oldValue);
+                    }
+                });
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+
+            // upstream 404s are remembered briefly in a separate, smaller cache so repeated misses stay local
+            final Cache<K, SystemException> notFound = Caffeine.newBuilder()
+                .expireAfterWrite(spec.getNotFoundTtl())
+                .maximumSize(spec.getNotFoundMaxEntries())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, notFound, name + "-not-found");
+            final Counter notFoundHits = notFoundCounter(name, "cached");
+            final Counter notFoundStores = notFoundCounter(name, "upstream");
+            return new CachedResource<>(cache, lastKnown, fallbacks, notFound, notFoundHits, notFoundStores);
+        }
+
+        // an unchanged upstream resource comes back as the same instance and keeps its version
+        private <K, V> Versioned<V> track(final Cache<K, Versioned<V>> lastKnown, final K key, final V value,
+            final Versioned<V> previous) {
+            final boolean unchanged = previous != null
+                && previous.value() == value; // NOPMD - CompareObjectsWithEquals: identity is intended
+            final Versioned<V> versioned = unchanged
+                ? previous : new Versioned<>(value, Long.toString(versions.incrementAndGet()));
+            // an unchanged entry is not put again, which would weigh its payload once more
+            if (lastKnown.getIfPresent(key) != versioned) { // NOPMD - CompareObjectsWithEquals: identity is intended
+                lastKnown.put(key, versioned);
+            }
+            return versioned;
+        }
+
+        // a rising cached count against few upstream ones points at clients scanning for ids
+        private Counter notFoundCounter(final String name, final String source) {
+            return Counter.builder("audition.cache.not.found")
+                .description("Lookups for resources the upstream reported as missing")
+                .tag("cache", name)
+                .tag("source", source)
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.audition.cache;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.cache")
+public class CacheProperties {
+
+    private ResourceSpec posts = new ResourceSpec(Duration.ofMinutes(1), Duration.ofMinutes(5), DataSize.ofMegabytes(4));
+    private ResourceSpec post = new ResourceSpec(Duration.ofMinutes(1), Duration.ofMinutes(5), DataSize.ofMegabytes(4));
+    private ResourceSpec postComments = new ResourceSpec(Duration.ofMinutes(1), Duration.ofMinutes(5),
+        DataSize.ofMegabytes(8));
+    private ResourceSpec comments = new ResourceSpec(Duration.ofMinutes(1), Duration.ofMinutes(5),
+        DataSize.ofMegabytes(8));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResourceSpec {
+
+        private Duration ttl;
+        private Duration staleTtl;
+        private DataSize maxWeight;
+        private DataSize fallbackMaxWeight;
+        private Duration notFoundTtl = Duration.ofSeconds(30);
+        private long notFoundMaxEntries = 10_000;
+
+        public ResourceSpec(final Duration ttl, final Duration staleTtl, final DataSize maxWeight) {
+            this.ttl = ttl;
+            this.staleTtl = staleTtl;
+            this.maxWeight = maxWeight;
+            this.fallbackMaxWeight = maxWeight;
+        }
+
+    }
+}
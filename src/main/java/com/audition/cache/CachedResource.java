@@ -0,0 +1,70 @@
+package com.audition.cache;
+
+import com.audition.common.exception.SystemException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+// a loading cache of versioned values that keeps the last value it loaded per key, so an unavailable upstream still
+// gets an answer
+@Getter
+final class CachedResource<K, V> {
+
+    private final LoadingCache<K, Versioned<V>> cache;
+    private final Cache<K, Versioned<V>> lastKnown;
+    private final Counter fallbacks;
+    private final Cache<K, SystemException> notFound;
+    private final Counter notFoundHits;
+    private final Counter notFoundStores;
+
+    CachedResource(final LoadingCache<K, Versioned<V>> cache, final Cache<K, Versioned<V>> lastKnown,
+        final Counter fallbacks, final Cache<K, SystemException> notFound, final Counter notFoundHits,
+        final Counter notFoundStores) {
+        this.cache = cache;
+        this.lastKnown = lastKnown;
+        this.fallbacks = fallbacks;
+        this.notFound = notFound;
+        this.notFoundHits = notFoundHits;
+        this.notFoundStores = notFoundStores;
+    }
+
+    Versioned<V> get(final K key) {
+        final SystemException knownMissing = notFound.getIfPresent(key);
+        if (knownMissing != null) {
+            notFoundHits.increment();
+            // a fresh instance per request, which is cheap now that 404s carry no stack trace
+            throw new SystemException(knownMissing.getDetail(), knownMissing.getTitle(),
+                knownMissing.getStatusCode());
+        }
+        try {
+            return cache.get(key);
+        } catch (SystemException e) {
+            if (isNotFound(e)) {
+                notFound.put(key, e);
+                notFoundStores.increment();
+                throw e;
+            }
+            final Versioned<V> stale = isUnavailable(e) ? lastKnown.getIfPresent(key) : null;
+            if (stale == null) {
+                throw e;
+            }
+            fallbacks.increment();
+            return stale;
+        }
+    }
+
+    // answers from the cache alone, without loading or refreshing through the upstream
+    Versioned<V> getIfPresent(final K key) {
+        return cache.getIfPresent(key);
+    }
+
+    private static boolean isNotFound(final SystemException e) {
+        return e.getStatusCode() != null && e.getStatusCode() == HttpStatus.NOT_FOUND.value();
+    }
+
+    private static boolean isUnavailable(final SystemException e) {
+        return e.getStatusCode() != null && e.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+}
@@ -0,0 +1,42 @@
+package com.audition.cache;
+
+import com.audition.common.exception.SystemException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.io.IOException;
+import java.io.OutputStream;
+
+final class PayloadWeigher implements Weigher<Object, Object> {
+
+    private final ObjectWriter objectWriter;
+
+    PayloadWeigher(final ObjectMapper objectMapper) {
+        this.objectWriter = objectMapper.writer();
+    }
+
+    @Override
+    public int weigh(final Object key, final Object value) {
+        try (ByteCountingOutputStream outputStream = new ByteCountingOutputStream()) {
+            objectWriter.writeValue(outputStream, value);
+            return (int) Math.min(Integer.MAX_VALUE, outputStream.count);
+        } catch (IOException e) {
+            throw new SystemException("Unable to weigh cached payload", e);
+        }
+    }
+
+    private static final class ByteCountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(final int b) {
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.audition.cache;
+
+// a value together with the version of the cached content it came from, or a null version when that is unknown
+public record Versioned<T>(T value, String version) {
+
+}
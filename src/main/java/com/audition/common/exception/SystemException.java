@@ -22,7 +22,7 @@ public class SystemException extends RuntimeException {
     }
 
     public SystemException(final String message, final Integer errorCode) {
-        super(message);
+        super(message, null, true, capturesStackTrace(errorCode));
         this.title = DEFAULT_TITLE;
         this.statusCode = errorCode;
     }
@@ -33,7 +33,7 @@ public class SystemException extends RuntimeException {
     }
 
     public SystemException(final String detail, final String title, final Integer errorCode) {
-        super(detail);
+        super(detail, null, true, capturesStackTrace(errorCode));
         this.statusCode = errorCode;
         this.title = title;
         this.detail = detail;
@@ -47,16 +47,21 @@ public class SystemException extends RuntimeException {
     }
 
     public SystemException(final String detail, final Integer errorCode, final Throwable exception) {
-        super(detail, exception);
+        super(detail, exception, true, capturesStackTrace(errorCode));
         this.statusCode = errorCode;
         this.title = DEFAULT_TITLE;
         this.detail = detail;
     }
 
     public SystemException(final String detail, final String title, final Integer errorCode, final Throwable exception) {
-        super(detail, exception);
+        super(detail, exception, true, capturesStackTrace(errorCode));
         this.statusCode = errorCode;
         this.title = title;
         this.detail = detail;
     }
+
+    // a 4xx describes the request rather than a fault here, so walking the stack for it is wasted work
+    private static boolean capturesStackTrace(final Integer errorCode) {
+        return errorCode == null || errorCode < 400 || errorCode >= 500;
+    }
 }
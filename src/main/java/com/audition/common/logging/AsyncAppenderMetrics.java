@@ -0,0 +1,44 @@
+package com.audition.common.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Iterator;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AsyncAppenderMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+
+        for (final Logger logger : context.getLoggerList()) {
+            final Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof CountingAsyncAppender appender) {
+                    bind(registry, appender);
+                }
+            }
+        }
+    }
+
+    private static void bind(final MeterRegistry registry, final CountingAsyncAppender appender) {
+        FunctionCounter.builder("logging.async.dropped", appender, CountingAsyncAppender::getDroppedCount)
+            .description("Log events dropped because the async appender queue was full")
+            .tag("appender", appender.getName())
+            .register(registry);
+        Gauge.builder("logging.async.queue.remaining", appender, CountingAsyncAppender::getRemainingCapacity)
+            .description("Free slots in the async appender queue")
+            .tag("appender", appender.getName())
+            .register(registry);
+    }
+}
@@ -1,6 +1,11 @@
 package com.audition.common.logging;
 
+import static net.logstash.logback.argument.StructuredArguments.value;
+
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.springframework.http.ProblemDetail;
 import org.springframework.stereotype.Component;
@@ -8,6 +13,20 @@ import org.springframework.stereotype.Component;
 @Component
 public class AuditionLogger {
 
+    private static final Duration PROBLEM_LOG_WINDOW = Duration.ofSeconds(10);
+    private static final String PROBLEM_FORMAT = "Title: {}, Status: {}, Detail: {}";
+    private static final String SUPPRESSED_PROBLEM_FORMAT = PROBLEM_FORMAT + ", Suppressed: {}";
+
+    private final ErrorLogLimiter problemLogLimiter;
+
+    public AuditionLogger() {
+        this(new ErrorLogLimiter(PROBLEM_LOG_WINDOW, System::nanoTime));
+    }
+
+    AuditionLogger(final ErrorLogLimiter problemLogLimiter) {
+        this.problemLogLimiter = problemLogLimiter;
+    }
+
     public void info(final Logger logger, final String message) {
         if (logger.isInfoEnabled()) {
             logger.info(message);
@@ -44,30 +63,62 @@ public class AuditionLogger {
         }
     }
 
+    // structured arguments render as plain values in the pattern layout and as fields in the JSON encoder;
+    // repeats of the same title and status are rate limited and the first line after a quiet window reports how many
+    // were dropped; client errors are logged without a stack trace
     public void logStandardProblemDetail(final Logger logger, final ProblemDetail problemDetail, final Exception e) {
-        if (logger.isErrorEnabled()) {
-            final var message = createStandardProblemDetailMessage(problemDetail);
-            logger.error(message, e);
+        if (problemDetail == null) {
+            if (logger.isErrorEnabled()) {
+                logger.error("ProblemDetail is null", e);
+            }
+            return;
+        }
+
+        final boolean clientError = problemDetail.getStatus() >= 400 && problemDetail.getStatus() < 500;
+        final boolean enabled = clientError ? logger.isWarnEnabled() : logger.isErrorEnabled();
+        if (!enabled) {
+            return;
+        }
+        final String title = Optional.ofNullable(problemDetail.getTitle()).orElse("No Title");
+        final long suppressed = problemLogLimiter.tryAcquire(title + '|' + problemDetail.getStatus());
+        if (suppressed == ErrorLogLimiter.SUPPRESSED) {
+            return;
+        }
+
+        final Object titleField = value("title", title);
+        final Object statusField = value("status", problemDetail.getStatus());
+        final Object detailField = value("detail", Optional.ofNullable(problemDetail.getDetail()).orElse("No Detail"));
+        if (suppressed == 0) {
+            logProblem(logger, clientError, PROBLEM_FORMAT, e, titleField, statusField, detailField);
+        } else {
+            logProblem(logger, clientError, SUPPRESSED_PROBLEM_FORMAT, e, titleField, statusField, detailField,
+                value("suppressed", suppressed));
         }
     }
 
     public void logHttpStatusCodeError(final Logger logger, final String message, final Integer errorCode) {
         if (logger.isErrorEnabled()) {
-            logger.error("{}\n", createBasicErrorResponseMessage(errorCode, message));
+            logger.error("Error Code: {}, Message: {}", value("status", errorCode), value("detail", message));
         }
     }
 
-    private String createStandardProblemDetailMessage(final ProblemDetail standardProblemDetail) {
-        if (standardProblemDetail == null) {
-            return "ProblemDetail is null";
+    public void logUpstreamCall(final Logger logger, final String operation, final String outcome,
+        final long latencyNanos) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Upstream {} finished with {} in {} ms", value("upstream_op", operation),
+                value("outcome", outcome), value("latency_ms", TimeUnit.NANOSECONDS.toMillis(latencyNanos)));
         }
-
-        return "Title: " + Optional.ofNullable(standardProblemDetail.getTitle()).orElse("No Title")
-            + ", Status: " + standardProblemDetail.getStatus()
-            + ", Detail: " + Optional.ofNullable(standardProblemDetail.getDetail()).orElse("No Detail");
     }
 
-    private String createBasicErrorResponseMessage(final Integer errorCode, final String message) {
-        return "Error Code: " + errorCode + ", Message: " + message;
+    private static void logProblem(final Logger logger, final boolean clientError, final String format,
+        final Exception e, final Object... fields) {
+        if (clientError) {
+            logger.warn(format, fields);
+            return;
+        }
+        // a trailing throwable is logged as the exception of the event
+        final Object[] arguments = Arrays.copyOf(fields, fields.length + 1);
+        arguments[fields.length] = e;
+        logger.error(format, arguments);
     }
 }
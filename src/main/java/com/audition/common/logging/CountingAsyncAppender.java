@@ -0,0 +1,30 @@
+package com.audition.common.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.concurrent.atomic.LongAdder;
+
+// an async appender that counts the events it drops instead of blocking the logging thread
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder dropped = new LongAdder();
+
+    public CountingAsyncAppender() {
+        super();
+        setNeverBlock(true);
+    }
+
+    @Override
+    protected void append(final ILoggingEvent eventObject) {
+        // mirrors the checks in AsyncAppenderBase; the capacity read can race, so the count is approximate
+        final int remaining = getRemainingCapacity();
+        if (remaining == 0 || remaining < getDiscardingThreshold() && isDiscardable(eventObject)) {
+            dropped.increment();
+        }
+        super.append(eventObject);
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,50 @@
+package com.audition.common.logging;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+// lets one event per key through each window and counts the rest, so a flood of identical errors logs one line
+final class ErrorLogLimiter {
+
+    static final long SUPPRESSED = -1;
+    private static final int MAX_KEYS = 1_000;
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, Window> windows = Caffeine.newBuilder()
+        .maximumSize(MAX_KEYS)
+        .build();
+
+    ErrorLogLimiter(final Duration window, final LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    // the number of events suppressed since the key was last logged, or SUPPRESSED if this one should be dropped
+    long tryAcquire(final String key) {
+        final long now = nanoClock.getAsLong();
+        final Window window = windows.get(key, k -> new Window(now - windowNanos));
+        synchronized (window) {
+            if (now - window.start < windowNanos) {
+                window.suppressed++;
+                return SUPPRESSED;
+            }
+            final long suppressed = window.suppressed;
+            window.start = now;
+            window.suppressed = 0;
+            return suppressed;
+        }
+    }
+
+    private static final class Window {
+
+        private long start;
+        private long suppressed;
+
+        Window(final long start) {
+            this.start = start;
+        }
+    }
+}
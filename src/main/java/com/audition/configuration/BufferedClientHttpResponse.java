@@ -0,0 +1,56 @@
+package com.audition.configuration;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+final class BufferedClientHttpResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse response;
+    private final byte[] body;
+
+    BufferedClientHttpResponse(final ClientHttpResponse response) throws IOException {
+        this.response = response;
+        this.body = StreamUtils.copyToByteArray(response.getBody());
+    }
+
+    String getBodyAsString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+        return response.getStatusCode();
+    }
+
+    @Override
+    @Deprecated
+    public int getRawStatusCode() throws IOException {
+        return response.getStatusCode().value();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return response.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return response.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() {
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public void close() {
+        response.close();
+    }
+}
@@ -0,0 +1,48 @@
+package com.audition.configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+
+@Getter
+public class ConnectionPoolMetrics implements MeterBinder {
+
+    private static final String PREFIX = "httpcomponents.httpclient.pool";
+    private static final String POOL_TAG = "httpclient";
+    private static final String STATE_TAG = "state";
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final String poolName;
+
+    public ConnectionPoolMetrics(final PoolingHttpClientConnectionManager connectionManager, final String poolName) {
+        this.connectionManager = connectionManager;
+        this.poolName = poolName;
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry registry) {
+        Gauge.builder(PREFIX + ".total.max", connectionManager, cm -> cm.getTotalStats().getMax())
+            .description("The configured maximum number of allowed persistent connections for all routes.")
+            .tag(POOL_TAG, poolName)
+            .register(registry);
+        Gauge.builder(PREFIX + ".total.connections", connectionManager, cm -> cm.getTotalStats().getAvailable())
+            .description("The number of persistent and available connections for all routes.")
+            .tags(POOL_TAG, poolName, STATE_TAG, "available")
+            .register(registry);
+        Gauge.builder(PREFIX + ".total.connections", connectionManager, cm -> cm.getTotalStats().getLeased())
+            .description("The number of persistent and leased connections for all routes.")
+            .tags(POOL_TAG, poolName, STATE_TAG, "leased")
+            .register(registry);
+        Gauge.builder(PREFIX + ".total.pending", connectionManager, cm -> cm.getTotalStats().getPending())
+            .description("The number of connection requests being blocked awaiting a free connection.")
+            .tag(POOL_TAG, poolName)
+            .register(registry);
+        Gauge.builder(PREFIX + ".route.max.default", connectionManager, PoolingHttpClientConnectionManager::getDefaultMaxPerRoute)
+            .description("The configured default maximum number of allowed persistent connections per route.")
+            .tag(POOL_TAG, poolName)
+            .register(registry);
+    }
+}
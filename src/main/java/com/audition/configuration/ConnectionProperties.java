@@ -0,0 +1,28 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.connection")
+public class ConnectionProperties {
+
+    private ClientEngine engine = ClientEngine.APACHE;
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(5);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private int maxTotal = 200;
+    private int maxPerRoute = 50;
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(16);
+
+    public enum ClientEngine {
+        SIMPLE,
+        APACHE
+    }
+
+}
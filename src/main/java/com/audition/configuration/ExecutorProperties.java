@@ -0,0 +1,29 @@
+package com.audition.configuration;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.executors")
+public class ExecutorProperties {
+
+    private PoolSettings fanOut = new PoolSettings(16, 32, 32);
+    private PoolSettings refresh = new PoolSettings(2, 4, 1_000);
+    private PoolSettings hedge = new PoolSettings(4, 8, 0);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PoolSettings {
+
+        private int coreSize;
+        private int maxSize;
+        private int queueCapacity;
+
+    }
+}
@@ -0,0 +1,79 @@
+package com.audition.configuration;
+
+import com.audition.configuration.ConnectionProperties.ClientEngine;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+@Configuration
+public class HttpClientConfiguration {
+
+    private static final String ENGINE_PROPERTY = "application.connection.engine";
+    private static final String POOL_NAME = "upstream";
+
+    @Bean
+    @ConditionalOnProperty(name = ENGINE_PROPERTY, havingValue = "apache", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager connectionManager(final ConnectionProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxTotal())
+            .setMaxConnPerRoute(properties.getMaxPerRoute())
+            .setDefaultSocketConfig(SocketConfig.custom()
+                .setSoKeepAlive(true)
+                .setSoTimeout(toTimeout(properties.getReadTimeout()))
+                .build())
+            .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ENGINE_PROPERTY, havingValue = "apache", matchIfMissing = true)
+    public CloseableHttpClient httpClient(final PoolingHttpClientConnectionManager connectionManager,
+        final ConnectionProperties properties) {
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectTimeout(toTimeout(properties.getConnectTimeout()))
+                .setConnectionRequestTimeout(toTimeout(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(toTimeout(properties.getReadTimeout()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(properties.getMaxIdleTime().toMillis()))
+            .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ENGINE_PROPERTY, havingValue = "apache", matchIfMissing = true)
+    public ConnectionPoolMetrics connectionPoolMetrics(final PoolingHttpClientConnectionManager connectionManager) {
+        return new ConnectionPoolMetrics(connectionManager, POOL_NAME);
+    }
+
+    @Bean
+    public ClientHttpRequestFactory clientHttpRequestFactory(final ConnectionProperties properties,
+        final ObjectProvider<CloseableHttpClient> httpClient) {
+        if (properties.getEngine() == ClientEngine.APACHE) {
+            return new HttpComponentsClientHttpRequestFactory(httpClient.getObject());
+        }
+
+        final SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Math.toIntExact(properties.getConnectTimeout().toMillis()));
+        requestFactory.setReadTimeout(Math.toIntExact(properties.getReadTimeout().toMillis()));
+        requestFactory.setOutputStreaming(false);
+        return requestFactory;
+    }
+
+    private static Timeout toTimeout(final Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -2,11 +2,15 @@ package com.audition.configuration;
 
 import com.audition.common.logging.AuditionLogger;
 import java.io.IOException;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.Getter;
 import lombok.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
@@ -21,9 +25,11 @@ public class LoggingInterceptor implements ClientHttpRequestInterceptor {
     private static final Logger LOG = LoggerFactory.getLogger(LoggingInterceptor.class);
 
     private final AuditionLogger auditionLogger;
+    private final UpstreamLoggingProperties properties;
 
-    public LoggingInterceptor(final AuditionLogger auditionLogger) {
+    public LoggingInterceptor(final AuditionLogger auditionLogger, final UpstreamLoggingProperties properties) {
         this.auditionLogger = auditionLogger;
+        this.properties = properties;
     }
 
     @Override
@@ -33,20 +39,85 @@ public class LoggingInterceptor implements ClientHttpRequestInterceptor {
         final byte @NonNull [] body,
         @NonNull final ClientHttpRequestExecution execution
     ) throws IOException {
-        logRequest(request, body);
+        // one decision per exchange keeps request and response lines together in the logs
+        final boolean sampled = LOG.isInfoEnabled() && isSampled(request.getURI());
+        if (sampled) {
+            logRequest(request, body);
+        }
         final ClientHttpResponse response = execution.execute(request, body);
+        if (!sampled) {
+            return response;
+        }
         logResponse(response);
+
+        if (isBodyLoggingSampled()) {
+            final BufferedClientHttpResponse bufferedResponse = new BufferedClientHttpResponse(response);
+            auditionLogger.info(LOG, "Response Body: {}", bufferedResponse.getBodyAsString());
+            return bufferedResponse;
+        }
         return response;
     }
 
+    private boolean isSampled(final URI uri) {
+        final double rate = properties.sampleRateFor(uri == null ? null : uri.getPath());
+        return rate >= 1.0 || rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private boolean isBodyLoggingSampled() {
+        return properties.isBodyEnabled()
+            && ThreadLocalRandom.current().nextDouble() < properties.getBodySampleRate();
+    }
 
     private void logRequest(final HttpRequest request, final byte[] body) {
         auditionLogger.info(LOG, "Request URI: {}, Method: {}, Headers: {}, Body: {}",
-            request.getURI(), request.getMethod(), request.getHeaders(), new String(body, StandardCharsets.UTF_8));
+            request.getURI(), request.getMethod(), new AllowedHeaders(request.getHeaders(), properties.getHeaders()),
+            new Utf8Body(body));
     }
 
     private void logResponse(final ClientHttpResponse response) throws IOException {
         auditionLogger.info(LOG, "Response Status Code: {}, Headers: {}",
-            response.getStatusCode(), response.getHeaders());
+            response.getStatusCode(), new AllowedHeaders(response.getHeaders(), properties.getHeaders()));
+    }
+
+    // formatted only when the logging backend renders the message
+    private static final class AllowedHeaders {
+
+        private final HttpHeaders headers;
+        private final List<String> allowed;
+
+        AllowedHeaders(final HttpHeaders headers, final List<String> allowed) {
+            this.headers = headers;
+            this.allowed = allowed;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder formatted = new StringBuilder(64).append('{');
+            String separator = "";
+            for (final String name : allowed) {
+                final List<String> values = headers.get(name);
+                if (values != null) {
+                    formatted.append(separator).append(name).append('=').append(values);
+                    separator = ", ";
+                }
+            }
+            return formatted.append('}').toString();
+        }
+    }
+
+    // holds the request body only until the log call returns, so copying it would be wasted work
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    private static final class Utf8Body {
+
+        private final byte[] body;
+
+        Utf8Body(final byte[] body) {
+            this.body = body;
+        }
+
+        @Override
+        public String toString() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
     }
 }
@@ -0,0 +1,14 @@
+package com.audition.configuration;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+
+// a missing post is an expected answer, so it reaches the caller as a response instead of a HttpClientErrorException
+class NotFoundPassingErrorHandler extends DefaultResponseErrorHandler {
+
+    @Override
+    protected boolean hasError(final HttpStatusCode statusCode) {
+        return statusCode.value() != HttpStatus.NOT_FOUND.value() && super.hasError(statusCode);
+    }
+}
@@ -0,0 +1,56 @@
+package com.audition.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// bounded platform thread pools; VirtualThreadConfiguration defines the same executors on virtual threads instead
+@Configuration
+@ConditionalOnProperty(name = "application.threads.virtual-enabled", havingValue = "false", matchIfMissing = true)
+public class PlatformThreadConfiguration {
+
+    // the dedicated pools below are Executor beans too, which would otherwise switch off Boot's own
+    // applicationTaskExecutor that MVC async requests run on
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(final TaskExecutorBuilder taskExecutorBuilder) {
+        return taskExecutorBuilder.build();
+    }
+
+    // request-scoped fan-out (a post's comments, batch lookups) is bounded on its own, so a burst of it can neither
+    // queue behind nor starve MVC async work on the application executor
+    @Bean(name = TaskExecutionConfiguration.FAN_OUT_EXECUTOR)
+    public ThreadPoolTaskExecutor fanOutExecutor(final TaskExecutorBuilder taskExecutorBuilder,
+        final ExecutorProperties executorProperties) {
+        return pool(taskExecutorBuilder, "audition-fan-out-", executorProperties.getFanOut());
+    }
+
+    // background cache refreshes get a small pool of their own instead of the common fork-join pool, so they carry
+    // the trace context and cannot starve parallel streams elsewhere in the JVM
+    @Bean(name = TaskExecutionConfiguration.CACHE_REFRESH_EXECUTOR)
+    public ThreadPoolTaskExecutor cacheRefreshExecutor(final TaskExecutorBuilder taskExecutorBuilder,
+        final ExecutorProperties executorProperties) {
+        return pool(taskExecutorBuilder, "audition-refresh-", executorProperties.getRefresh());
+    }
+
+    // no queue: a hedge that cannot start right away is worthless, so it is rejected and the call runs unhedged
+    @Bean(name = TaskExecutionConfiguration.HEDGE_EXECUTOR)
+    public ThreadPoolTaskExecutor upstreamHedgeExecutor(final TaskExecutorBuilder taskExecutorBuilder,
+        final ExecutorProperties executorProperties) {
+        return pool(taskExecutorBuilder, "audition-hedge-", executorProperties.getHedge());
+    }
+
+    private static ThreadPoolTaskExecutor pool(final TaskExecutorBuilder taskExecutorBuilder, final String threadNamePrefix,
+        final ExecutorProperties.PoolSettings pool) {
+        return taskExecutorBuilder
+            .corePoolSize(pool.getCoreSize())
+            .maxPoolSize(pool.getMaxSize())
+            .queueCapacity(pool.getQueueCapacity())
+            .threadNamePrefix(threadNamePrefix)
+            .build();
+    }
+}
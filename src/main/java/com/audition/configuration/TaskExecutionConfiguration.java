@@ -0,0 +1,41 @@
+package com.audition.configuration;
+
+import brave.propagation.CurrentTraceContext;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class TaskExecutionConfiguration {
+
+    public static final String FAN_OUT_EXECUTOR = "fanOutExecutor";
+    public static final String CACHE_REFRESH_EXECUTOR = "cacheRefreshExecutor";
+    public static final String HEDGE_EXECUTOR = "upstreamHedgeExecutor";
+    public static final String HEDGE_SCHEDULER = "upstreamHedgeScheduler";
+
+    @Bean
+    public TaskDecorator traceContextTaskDecorator(final CurrentTraceContext currentTraceContext) {
+        return currentTraceContext::wrap;
+    }
+
+    // one timer thread holds every pending hedge, so a call only takes a pool thread once its hedge actually fires.
+    // Tasks are decorated when they are scheduled, on the caller, because the timer thread has no trace context
+    // of its own to hand to the hedge pool
+    @Bean(name = HEDGE_SCHEDULER)
+    public TaskScheduler upstreamHedgeScheduler(final TaskDecorator traceContextTaskDecorator) {
+        final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler() {
+            @Override
+            public ScheduledFuture<?> schedule(final Runnable task, final Instant startTime) {
+                return super.schedule(traceContextTaskDecorator.decorate(task), startTime);
+            }
+        };
+        scheduler.setThreadNamePrefix("audition-hedge-timer-");
+        // most hedges are cancelled because the primary answered first; they must not pile up in the queue
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
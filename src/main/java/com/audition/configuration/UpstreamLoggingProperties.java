@@ -0,0 +1,37 @@
+package com.audition.configuration;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.logging.upstream")
+public class UpstreamLoggingProperties {
+
+    private boolean bodyEnabled;
+    private double bodySampleRate = 0.01;
+    // share of exchanges whose request and response lines are logged, overridden per path prefix by routes
+    private double sampleRate = 1.0;
+    private Map<String, Double> routes = Map.of();
+    private List<String> headers = List.of(HttpHeaders.ACCEPT, HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH,
+        HttpHeaders.ETAG, HttpHeaders.IF_NONE_MATCH);
+
+    public double sampleRateFor(final String path) {
+        double rate = sampleRate;
+        int matched = -1;
+        if (path != null) {
+            for (final Map.Entry<String, Double> route : routes.entrySet()) {
+                if (path.startsWith(route.getKey()) && route.getKey().length() > matched) {
+                    rate = route.getValue();
+                    matched = route.getKey().length();
+                }
+            }
+        }
+        return rate;
+    }
+
+}
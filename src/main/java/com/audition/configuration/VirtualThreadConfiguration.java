@@ -0,0 +1,62 @@
+package com.audition.configuration;
+
+import java.util.concurrent.Executor;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+@Configuration
+@ConditionalOnProperty(name = "application.threads.virtual-enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    // declared as a plain Executor; the runtime ExecutorService is still shut down with the context
+    @Bean(destroyMethod = "shutdown")
+    public Executor virtualThreadExecutor() {
+        return VirtualThreads.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(
+        final Executor virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public TaskExecutorAdapter applicationTaskExecutor(final Executor virtualThreadExecutor,
+        final ObjectProvider<TaskDecorator> taskDecorator) {
+        return decorated(virtualThreadExecutor, taskDecorator);
+    }
+
+    // the dedicated pools exist to keep platform threads bounded; here a blocked fan-out lookup, refresh or hedge
+    // only parks a virtual thread, and hedges stay bounded by the retry budget rather than by a pool size
+    @Bean(name = TaskExecutionConfiguration.FAN_OUT_EXECUTOR)
+    public TaskExecutorAdapter fanOutExecutor(final Executor virtualThreadExecutor,
+        final ObjectProvider<TaskDecorator> taskDecorator) {
+        return decorated(virtualThreadExecutor, taskDecorator);
+    }
+
+    @Bean(name = TaskExecutionConfiguration.CACHE_REFRESH_EXECUTOR)
+    public TaskExecutorAdapter cacheRefreshExecutor(final Executor virtualThreadExecutor,
+        final ObjectProvider<TaskDecorator> taskDecorator) {
+        return decorated(virtualThreadExecutor, taskDecorator);
+    }
+
+    @Bean(name = TaskExecutionConfiguration.HEDGE_EXECUTOR)
+    public TaskExecutorAdapter upstreamHedgeExecutor(final Executor virtualThreadExecutor,
+        final ObjectProvider<TaskDecorator> taskDecorator) {
+        return decorated(virtualThreadExecutor, taskDecorator);
+    }
+
+    private static TaskExecutorAdapter decorated(final Executor virtualThreadExecutor,
+        final ObjectProvider<TaskDecorator> taskDecorator) {
+        final TaskExecutorAdapter taskExecutor = new TaskExecutorAdapter(virtualThreadExecutor);
+        taskDecorator.ifUnique(taskExecutor::setTaskDecorator);
+        return taskExecutor;
+    }
+}
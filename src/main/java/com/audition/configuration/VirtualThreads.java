@@ -0,0 +1,29 @@
+package com.audition.configuration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+final class VirtualThreads {
+
+    private static final int MIN_FEATURE_VERSION = 21;
+
+    private VirtualThreads() {
+    }
+
+    static boolean isSupported() {
+        return Runtime.version().feature() >= MIN_FEATURE_VERSION;
+    }
+
+    // resolved reflectively so the build keeps targeting Java 17 bytecode
+    static Executor newVirtualThreadPerTaskExecutor() {
+        if (!isSupported()) {
+            throw new IllegalStateException(
+                "Virtual threads require Java " + MIN_FEATURE_VERSION + " or newer, running on " + Runtime.version());
+        }
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create a virtual thread executor", e);
+        }
+    }
+}
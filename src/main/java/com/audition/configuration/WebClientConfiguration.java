@@ -0,0 +1,41 @@
+package com.audition.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@ConditionalOnProperty(name = "application.upstream.client", havingValue = "web-client")
+public class WebClientConfiguration {
+
+    private static final String POOL_NAME = "upstream";
+
+    @Bean
+    public WebClient webClient(final WebClient.Builder webClientBuilder, final ObjectMapper objectMapper,
+        final ConnectionProperties properties) {
+        final ConnectionProvider connectionProvider = ConnectionProvider.builder(POOL_NAME)
+            .maxConnections(properties.getMaxTotal())
+            .maxIdleTime(properties.getMaxIdleTime())
+            .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+            .metrics(true)
+            .build();
+        final HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(properties.getConnectTimeout().toMillis()))
+            .responseTimeout(properties.getReadTimeout());
+
+        return webClientBuilder
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .codecs(configurer -> {
+                configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                configurer.defaultCodecs().maxInMemorySize(Math.toIntExact(properties.getMaxInMemorySize().toBytes()));
+            })
+            .build();
+    }
+}
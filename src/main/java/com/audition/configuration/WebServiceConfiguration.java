@@ -8,8 +8,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -29,21 +28,16 @@ public class WebServiceConfiguration implements WebMvcConfigurer {
     }
 
     @Bean
-    public RestTemplate restTemplate(final ObjectMapper objectMapper, final LoggingInterceptor loggingInterceptor) {
-        final RestTemplate restTemplate = new RestTemplate(
-            new BufferingClientHttpRequestFactory(createClientFactory()));
+    public RestTemplate restTemplate(final ObjectMapper objectMapper, final LoggingInterceptor loggingInterceptor,
+        final ClientHttpRequestFactory clientHttpRequestFactory) {
+        final RestTemplate restTemplate = new RestTemplate(clientHttpRequestFactory);
 
         restTemplate.getMessageConverters().removeIf(MappingJackson2HttpMessageConverter.class::isInstance);
         restTemplate.getMessageConverters().add(new MappingJackson2HttpMessageConverter(objectMapper));
 
         restTemplate.getInterceptors().add(loggingInterceptor);
+        restTemplate.setErrorHandler(new NotFoundPassingErrorHandler());
 
         return restTemplate;
     }
-
-    private SimpleClientHttpRequestFactory createClientFactory() {
-        final SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setOutputStreaming(false);
-        return requestFactory;
-    }
 }
@@ -1,15 +1,20 @@
 package com.audition.integration;
 
 import com.audition.common.exception.SystemException;
+import com.audition.integration.UpstreamMetrics.Operation;
 import com.audition.model.AuditionComment;
 import com.audition.model.AuditionPost;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.Getter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
@@ -19,33 +24,78 @@ import org.springframework.web.client.RestTemplate;
 @Component
 public class AuditionIntegrationClient {
 
-    private static final String BASE_URL = "https://jsonplaceholder.typicode.com";
-    private static final String POSTS_URL = BASE_URL + "/posts";
-    private static final String COMMENTS_URL = BASE_URL + "/comments";
+    private static final String POSTS_ERROR = "Error Fetching Posts";
+    private static final String COMMENTS_ERROR = "Error Fetching Comments";
 
     @Autowired
     private RestTemplate restTemplate;
 
+    @Autowired
+    private ObjectProvider<ReactiveAuditionIntegrationClient> reactiveClient;
+
+    @Autowired
+    private UpstreamProperties upstreamProperties;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private UpstreamValidators upstreamValidators;
+
+    @Autowired
+    private UpstreamRetry upstreamRetry;
+
+    @Autowired
+    private UpstreamGuard upstreamGuard;
+
+    @Autowired
+    private UpstreamMetrics upstreamMetrics;
+
     public List<AuditionPost> getPosts() {
-        // TODO: Implement pagination (e.g. https://jsonplaceholder.typicode.com/posts?_page=1&_limit=10)
+        final String url = postsUrl();
+        return call(Operation.POSTS, url, () -> fetchList(url, AuditionPost[].class, POSTS_ERROR));
+    }
+
+    public List<AuditionPost> getPostsPage(final int page, final int limit) {
+        final String url = postsUrl() + "?_page=" + page + "&_limit=" + limit;
+        return call(Operation.POSTS_PAGE, url, () -> fetchList(url, AuditionPost[].class, POSTS_ERROR));
+    }
+
+    public AuditionPost getPostById(final int id) {
+        final String url = postsUrl() + "/" + id;
+        return call(Operation.POST, url, () -> fetchPostById(url, id));
+    }
+
+    public List<AuditionComment> getCommentsForPost(final int postId) {
+        final String url = postsUrl() + "/" + postId + "/comments";
+        return call(Operation.POST_COMMENTS, url, () -> fetchCommentsForPost(url, postId));
+    }
+
+    public List<AuditionComment> getComments(final Integer postId) {
+        final String url = (postId != null) ? commentsUrl() + "?postId=" + postId : commentsUrl();
+        return call(Operation.COMMENTS, url, () -> fetchList(url, AuditionComment[].class, COMMENTS_ERROR));
+    }
+
+    // identical requests share one call; each retried or hedged attempt is guarded and timed on its own
+    private <T> T call(final Operation operation, final String url, final Supplier<T> fetch) {
+        return requestCoalescer.execute(url, () -> upstreamRetry.execute(operation,
+            () -> upstreamGuard.execute(operation, () -> upstreamMetrics.record(operation, fetch))));
+    }
+
+    // a whole collection that is missing or unreachable means the upstream itself is unavailable
+    private <E> List<E> fetchList(final String url, final Class<E[]> bodyType, final String title) {
         try {
-            return Optional.ofNullable(restTemplate.getForObject(POSTS_URL, AuditionPost[].class))
-                .map(Arrays::asList)
-                .orElseGet(Collections::emptyList);
+            return conditionalGet(url, bodyType, AuditionIntegrationClient::toList,
+                () -> missingCollection(url, title));
         } catch (RestClientException e) {
-            throw new SystemException(e.getMessage(), "Error Fetching Posts",
-                HttpStatus.SERVICE_UNAVAILABLE.value(), e);
+            throw new SystemException(e.getMessage(), title, HttpStatus.SERVICE_UNAVAILABLE.value(), e);
         }
     }
 
-    public AuditionPost getPostById(final int id) {
+    private AuditionPost fetchPostById(final String url, final int id) {
         try {
-            return restTemplate.getForObject(POSTS_URL + "/" + id, AuditionPost.class);
+            return conditionalGet(url, AuditionPost.class, Function.identity(), () -> missingPost(id));
         } catch (HttpClientErrorException e) {
-            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                throw new SystemException("Cannot find post with ID " + id, "Resource Not Found",
-                    HttpStatus.NOT_FOUND.value(), e);
-            }
             throw new SystemException(e.getMessage(), "Client Error", e.getStatusCode().value(), e);
         } catch (RestClientException e) {
             throw new SystemException(e.getMessage(), "Error Fetching Post with ID " + id,
@@ -53,17 +103,11 @@ public class AuditionIntegrationClient {
         }
     }
 
-    public List<AuditionComment> getCommentsForPost(final int postId) {
+    private List<AuditionComment> fetchCommentsForPost(final String url, final int postId) {
         try {
-            return Optional.ofNullable(
-                    restTemplate.getForObject(POSTS_URL + "/" + postId + "/comments", AuditionComment[].class, postId))
-                .map(Arrays::asList)
-                .orElseGet(Collections::emptyList);
+            return conditionalGet(url, AuditionComment[].class, AuditionIntegrationClient::toList,
+                () -> missingPost(postId));
         } catch (HttpClientErrorException e) {
-            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                throw new SystemException("Cannot find post with ID " + postId, "Resource Not Found",
-                    HttpStatus.NOT_FOUND.value(), e);
-            }
             throw new SystemException(e.getMessage(), "Client Error", e.getStatusCode().value(), e);
         } catch (RestClientException e) {
             throw new SystemException(e.getMessage(), "Error Fetching Comments for Post ID " + postId,
@@ -71,16 +115,71 @@ public class AuditionIntegrationClient {
         }
     }
 
-    public List<AuditionComment> getComments(final Integer postId) {
-        try {
-            final String url = (postId != null) ? COMMENTS_URL + "?postId=" + postId : COMMENTS_URL;
-            return Optional.ofNullable(restTemplate.getForObject(url, AuditionComment[].class))
-                .map(Arrays::asList)
-                .orElseGet(Collections::emptyList);
-        } catch (RestClientException e) {
-            throw new SystemException(e.getMessage(), "Error Fetching Comments",
-                HttpStatus.SERVICE_UNAVAILABLE.value(), e);
+    // on 304 the previously parsed value is returned as is, which also keeps cached lists identical across refreshes;
+    // a 404 comes back as a plain response and is turned into the caller's exception without a client exception
+    @SuppressWarnings("unchecked")
+    private <B, T> T conditionalGet(final String url, final Class<B> bodyType, final Function<B, T> mapper,
+        final Supplier<SystemException> notFound) {
+        final HttpHeaders validators = upstreamValidators.conditionalHeaders(url);
+        ResponseEntity<B> response = get(url, validators, bodyType, notFound);
+
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            final Object known = validators.isEmpty() ? null : upstreamValidators.notModified(url);
+            if (known != null) {
+                return (T) known;
+            }
+            // the remembered value was dropped while the request was in flight, or the 304 was never asked for;
+            // one unconditional request settles it
+            response = get(url, HttpHeaders.EMPTY, bodyType, notFound);
+            if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                throw new SystemException("Upstream answered 304 Not Modified to an unconditional request for " + url,
+                    "Unexpected Upstream Response", HttpStatus.SERVICE_UNAVAILABLE.value());
+            }
         }
+
+        final T value = mapper.apply(response.getBody());
+        upstreamValidators.store(url, response.getHeaders(), value);
+        return value;
     }
 
+    // the WebClient engine is awaited here because the cache and service layers above are synchronous
+    private <B> ResponseEntity<B> get(final String url, final HttpHeaders headers, final Class<B> bodyType,
+        final Supplier<SystemException> notFound) {
+        final ReactiveAuditionIntegrationClient reactive = reactiveClient.getIfAvailable();
+        final ResponseEntity<B> response = reactive != null
+            ? reactive.exchange(url, headers, bodyType).block()
+            : restTemplate.execute(url, HttpMethod.GET,
+                restTemplate.httpEntityCallback(new HttpEntity<>(headers), bodyType),
+                clientResponse -> clientResponse.getStatusCode().value() == HttpStatus.NOT_FOUND.value()
+                    ? ResponseEntity.status(HttpStatus.NOT_FOUND).<B>build()
+                    : restTemplate.<B>responseEntityExtractor(bodyType).extractData(clientResponse));
+
+        if (response == null || response.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+            throw notFound.get();
+        }
+        return response;
+    }
+
+    // client errors are stackless and carry no cause, so a missing post costs no stack trace at all
+    private static SystemException missingPost(final int id) {
+        return new SystemException("Cannot find post with ID " + id, "Resource Not Found", HttpStatus.NOT_FOUND.value());
+    }
+
+    private static SystemException missingCollection(final String url, final String title) {
+        return new SystemException("Upstream answered 404 Not Found for " + url, title,
+            HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+
+    @SafeVarargs
+    private static <E> List<E> toList(final E... body) {
+        return body == null ? List.of() : List.of(body);
+    }
+
+    private String postsUrl() {
+        return upstreamProperties.getBaseUrl() + "/posts";
+    }
+
+    private String commentsUrl() {
+        return upstreamProperties.getBaseUrl() + "/comments";
+    }
 }
@@ -0,0 +1,82 @@
+package com.audition.integration;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import lombok.Getter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+// the WebClient engine behind AuditionIntegrationClient. Failures surface as the same RestClientException types
+// RestTemplate throws, so retry, circuit breaking, metrics and error mapping treat both engines alike
+@Getter
+@Component
+@ConditionalOnProperty(name = "application.upstream.client", havingValue = "web-client")
+public class ReactiveAuditionIntegrationClient {
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    private final WebClient webClient;
+
+    public ReactiveAuditionIntegrationClient(final WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    // a 404 completes as a plain NOT_FOUND entity, as the RestTemplate extractor does, so the caller decides what
+    // a missing resource means without an exception being built
+    public <B> Mono<ResponseEntity<B>> exchange(final String url, final HttpHeaders headers, final Class<B> bodyType) {
+        return webClient.get()
+            .uri(URI.create(url))
+            .headers(requestHeaders -> requestHeaders.addAll(headers))
+            .exchangeToMono(response -> toEntity(response, bodyType))
+            .onErrorMap(WebClientRequestException.class,
+                e -> new ResourceAccessException(e.getMessage(), toIoException(e.getCause())));
+    }
+
+    private static <B> Mono<ResponseEntity<B>> toEntity(final ClientResponse response, final Class<B> bodyType) {
+        final HttpStatusCode status = response.statusCode();
+        if (status.value() == HttpStatus.NOT_FOUND.value()) {
+            return response.releaseBody().thenReturn(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+        }
+        if (status.isError()) {
+            final HttpHeaders headers = response.headers().asHttpHeaders();
+            return response.bodyToMono(byte[].class)
+                .defaultIfEmpty(NO_BODY)
+                .flatMap(body -> Mono.error(toResponseException(status, headers, body)));
+        }
+        return response.toEntity(bodyType);
+    }
+
+    private static RestClientResponseException toResponseException(final HttpStatusCode status,
+        final HttpHeaders headers, final byte[] body) {
+        if (status.is4xxClientError()) {
+            return HttpClientErrorException.create(status, "", headers, body, null);
+        }
+        return HttpServerErrorException.create(status, "", headers, body, null);
+    }
+
+    // connect failures already are IOExceptions; Netty's read timeout is not, so it becomes the socket timeout
+    // RestTemplate would have reported
+    private static IOException toIoException(final Throwable cause) {
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof ReadTimeoutException) {
+            return new SocketTimeoutException("Read timed out");
+        }
+        return new IOException(cause);
+    }
+}
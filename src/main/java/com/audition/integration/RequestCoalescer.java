@@ -0,0 +1,60 @@
+package com.audition.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class RequestCoalescer {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedRequests;
+
+    public RequestCoalescer(final MeterRegistry meterRegistry) {
+        this.coalescedRequests = Counter.builder("audition.upstream.coalesced")
+            .description("Upstream requests served by joining an identical in-flight request")
+            .register(meterRegistry);
+    }
+
+    @SuppressWarnings({"unchecked", "PMD.AvoidCatchingGenericException"})
+    public <T> T execute(final String key, final Supplier<T> request) {
+        final CompletableFuture<Object> call = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+
+        if (existing != null) {
+            coalescedRequests.increment();
+            return (T) await(existing);
+        }
+
+        try {
+            final T result = request.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+            // no-op unless the request escaped with an Error; never leave joined callers waiting
+            call.cancel(false);
+        }
+    }
+
+    private static Object await(final CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.audition.integration;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// token bucket: every request deposits a fraction of a token and every retry or hedge withdraws a whole one,
+// so extra attempts stay below that fraction of traffic once the burst allowance is spent
+final class RetryBudget {
+
+    private static final long SCALE = 1_000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    RetryBudget(final double ratio, final int burst) {
+        this.deposit = Math.round(ratio * SCALE);
+        this.capacity = Math.max(1, burst) * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    void recordRequest() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    boolean tryWithdraw() {
+        long current = balance.get();
+        while (current >= SCALE) {
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+            current = balance.get();
+        }
+        return false;
+    }
+}
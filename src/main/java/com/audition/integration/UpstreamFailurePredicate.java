@@ -0,0 +1,17 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import java.util.function.Predicate;
+
+// upstream 4xx answers (e.g. unknown post IDs) mean the upstream is healthy and must not open the circuit
+public class UpstreamFailurePredicate implements Predicate<Throwable> {
+
+    private static final int SERVER_ERROR = 500;
+
+    @Override
+    public boolean test(final Throwable failure) {
+        return !(failure instanceof SystemException systemException)
+            || systemException.getStatusCode() == null
+            || systemException.getStatusCode() >= SERVER_ERROR;
+    }
+}
@@ -0,0 +1,56 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import com.audition.integration.UpstreamMetrics.Operation;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class UpstreamGuard {
+
+    static final String BULKHEAD_NAME = "upstream";
+
+    private final Map<Operation, CircuitBreaker> circuitBreakers;
+    private final Bulkhead bulkhead;
+
+    public UpstreamGuard(final CircuitBreakerRegistry circuitBreakerRegistry, final BulkheadRegistry bulkheadRegistry,
+        final MeterRegistry meterRegistry) {
+        this.circuitBreakers = Operation.mapEach(operation -> {
+            final CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(operation.getTagValue());
+            circuitBreaker.getEventPublisher().onStateTransition(event ->
+                Counter.builder("audition.upstream.circuit.transitions")
+                    .description("Circuit breaker state transitions per upstream operation")
+                    .tag("operation", event.getCircuitBreakerName())
+                    .tag("from", event.getStateTransition().getFromState().name())
+                    .tag("to", event.getStateTransition().getToState().name())
+                    .register(meterRegistry)
+                    .increment());
+            return circuitBreaker;
+        });
+        this.bulkhead = bulkheadRegistry.bulkhead(BULKHEAD_NAME);
+    }
+
+    public <T> T execute(final Operation operation, final Supplier<T> call) {
+        try {
+            return circuitBreakers.get(operation).executeSupplier(() -> bulkhead.executeSupplier(call));
+        } catch (CallNotPermittedException e) {
+            throw new SystemException("Upstream " + operation.getTagValue() + " calls are suspended after repeated "
+                + "failures", "Upstream Unavailable", HttpStatus.SERVICE_UNAVAILABLE.value(), e);
+        } catch (BulkheadFullException e) {
+            throw new SystemException("Too many concurrent upstream calls", "Upstream Saturated",
+                HttpStatus.SERVICE_UNAVAILABLE.value(), e);
+        }
+    }
+}
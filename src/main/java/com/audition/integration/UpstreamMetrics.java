@@ -0,0 +1,134 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import com.audition.common.logging.AuditionLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+@Getter
+@Component
+public class UpstreamMetrics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UpstreamMetrics.class);
+    // the success p95 drives the hedge delay
+    private static final double[] SUCCESS_PERCENTILES = {0.95};
+    private static final double[] NO_PERCENTILES = {};
+
+    private final Map<Operation, Timer[]> timers;
+    private final AuditionLogger auditionLogger;
+
+    public UpstreamMetrics(final MeterRegistry meterRegistry) {
+        this(meterRegistry, new AuditionLogger());
+    }
+
+    // every operation/outcome pair is registered up front so recording is an array lookup, not a tag lookup
+    @Autowired
+    public UpstreamMetrics(final MeterRegistry meterRegistry, final AuditionLogger auditionLogger) {
+        this.auditionLogger = auditionLogger;
+        this.timers = Operation.mapEach(operation -> registerTimers(meterRegistry, operation));
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <T> T record(final Operation operation, final Supplier<T> call) {
+        final long start = System.nanoTime();
+        Outcome outcome = Outcome.UNKNOWN;
+        try {
+            final T result = call.get();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } catch (SystemException e) {
+            outcome = Outcome.from(e);
+            throw e;
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            timers.get(operation)[outcome.ordinal()].record(elapsed, TimeUnit.NANOSECONDS);
+            auditionLogger.logUpstreamCall(LOG, operation.getTagValue(), outcome.name(), elapsed);
+        }
+    }
+
+    // client-side p95 of successful calls over the recent window; zero until calls have been recorded
+    public Duration successP95(final Operation operation) {
+        final ValueAtPercentile[] percentiles = timers.get(operation)[Outcome.SUCCESS.ordinal()].takeSnapshot()
+            .percentileValues();
+        return percentiles.length == 0 ? Duration.ZERO
+            : Duration.ofNanos((long) percentiles[0].value(TimeUnit.NANOSECONDS));
+    }
+
+    private static Timer[] registerTimers(final MeterRegistry meterRegistry, final Operation operation) {
+        final Timer[] byOutcome = new Timer[Outcome.values().length];
+        for (final Outcome outcome : Outcome.values()) {
+            byOutcome[outcome.ordinal()] = Timer.builder("audition.upstream.requests")
+                .description("Latency of upstream calls per operation and outcome")
+                .tag("operation", operation.getTagValue())
+                .tag("outcome", outcome.name())
+                .publishPercentileHistogram()
+                .publishPercentiles(outcome == Outcome.SUCCESS ? SUCCESS_PERCENTILES : NO_PERCENTILES)
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+        }
+        return byOutcome;
+    }
+
+    @Getter
+    public enum Operation {
+        POSTS("posts"),
+        POSTS_PAGE("posts-page"),
+        POST("post"),
+        POST_COMMENTS("post-comments"),
+        COMMENTS("comments");
+
+        private final String tagValue;
+
+        Operation(final String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        // per-operation lookup tables are filled once at startup and only read afterwards
+        static <V> Map<Operation, V> mapEach(final Function<Operation, V> factory) {
+            return Arrays.stream(values()).collect(Collectors.toMap(Function.identity(), factory,
+                (first, second) -> first, () -> new EnumMap<>(Operation.class)));
+        }
+    }
+
+    public enum Outcome {
+        SUCCESS,
+        CLIENT_ERROR,
+        SERVER_ERROR,
+        UNKNOWN;
+
+        // transport failures carry no upstream status and stay UNKNOWN; a 404 answered without a client exception
+        // surfaces as a cause-less client error
+        static Outcome from(final SystemException failure) {
+            final HttpStatusCode status;
+            if (failure.getCause() instanceof RestClientResponseException responseException) {
+                status = responseException.getStatusCode();
+            } else if (failure.getCause() == null && failure.getStatusCode() != null) {
+                return HttpStatusCode.valueOf(failure.getStatusCode()).is4xxClientError() ? CLIENT_ERROR : UNKNOWN;
+            } else {
+                return UNKNOWN;
+            }
+
+            if (status.is4xxClientError()) {
+                return CLIENT_ERROR;
+            }
+            return status.is5xxServerError() ? SERVER_ERROR : UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.audition.integration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.upstream")
+public class UpstreamProperties {
+
+    private Client client = Client.REST_TEMPLATE;
+    private String baseUrl = "https://jsonplaceholder.typicode.com";
+    private int pageSize = 50;
+    private long validatorsMaxEntries = 10_000;
+    private Duration validatorsTtl = Duration.ofMinutes(10);
+    private Retry retry = new Retry();
+    private Hedge hedge = new Hedge();
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(2);
+        private double multiplier = 2.0;
+        private double budgetRatio = 0.1;
+        private int budgetBurst = 10;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Hedge {
+
+        private boolean enabled;
+        private Duration minDelay = Duration.ofMillis(10);
+        private Duration maxDelay = Duration.ofSeconds(1);
+
+    }
+
+    public enum Client {
+        REST_TEMPLATE,
+        WEB_CLIENT
+    }
+}
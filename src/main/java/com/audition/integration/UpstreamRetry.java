@@ -0,0 +1,228 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.ConnectionProperties;
+import com.audition.configuration.TaskExecutionConfiguration;
+import com.audition.integration.UpstreamMetrics.Operation;
+import com.audition.integration.UpstreamProperties.Retry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+
+@Getter
+@Component
+public class UpstreamRetry {
+
+    private static final long HEDGE_DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final UpstreamProperties properties;
+    private final UpstreamMetrics upstreamMetrics;
+    private final Executor hedgeExecutor;
+    private final TaskScheduler hedgeScheduler;
+    private final Duration requestTimeout;
+    private final RetryBudget retryBudget;
+    private final Map<Operation, Counter> retries;
+    private final Map<Operation, Counter> hedges;
+    private final Map<Operation, Counter> hedgesRejected;
+    private final Map<Operation, HedgeDelay> hedgeDelays = new ConcurrentHashMap<>();
+    private final Counter budgetExhausted;
+
+    public UpstreamRetry(final UpstreamProperties properties, final ConnectionProperties connectionProperties,
+        final UpstreamMetrics upstreamMetrics, final MeterRegistry meterRegistry,
+        @Qualifier(TaskExecutionConfiguration.HEDGE_EXECUTOR) final Executor hedgeExecutor,
+        @Qualifier(TaskExecutionConfiguration.HEDGE_SCHEDULER) final TaskScheduler hedgeScheduler) {
+        this.properties = properties;
+        this.upstreamMetrics = upstreamMetrics;
+        this.hedgeExecutor = hedgeExecutor;
+        this.hedgeScheduler = hedgeScheduler;
+        // the longest a single attempt can take before the HTTP client gives up on it
+        this.requestTimeout = connectionProperties.getConnectionRequestTimeout()
+            .plus(connectionProperties.getConnectTimeout())
+            .plus(connectionProperties.getReadTimeout());
+        this.retryBudget = new RetryBudget(properties.getRetry().getBudgetRatio(),
+            properties.getRetry().getBudgetBurst());
+
+        this.retries = Operation.mapEach(operation -> Counter.builder("audition.upstream.retries")
+            .description("Upstream calls retried after a connect error or 5xx")
+            .tag("operation", operation.getTagValue())
+            .register(meterRegistry));
+        this.hedges = Operation.mapEach(operation -> Counter.builder("audition.upstream.hedges")
+            .description("Upstream calls that fired a hedged second attempt")
+            .tag("operation", operation.getTagValue())
+            .register(meterRegistry));
+        this.hedgesRejected = Operation.mapEach(operation -> Counter.builder("audition.upstream.hedges.rejected")
+            .description("Upstream calls that ran unhedged because the hedge pool was full")
+            .tag("operation", operation.getTagValue())
+            .register(meterRegistry));
+        this.budgetExhausted = Counter.builder("audition.upstream.retry.budget.exhausted")
+            .description("Retries or hedges skipped because the retry budget was spent")
+            .register(meterRegistry);
+    }
+
+    public <T> T execute(final Operation operation, final Supplier<T> attempt) {
+        retryBudget.recordRequest();
+        final Retry retry = properties.getRetry();
+
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return properties.getHedge().isEnabled() ? hedged(operation, attempt) : attempt.get();
+            } catch (SystemException e) {
+                if (attemptNumber >= retry.getMaxAttempts() || !isRetryable(e) || !withdraw()) {
+                    throw e;
+                }
+                retries.get(operation).increment();
+                sleep(backoff(retry, attemptNumber));
+            }
+        }
+    }
+
+    static boolean isRetryable(final SystemException failure) {
+        final Throwable cause = failure.getCause();
+        if (cause instanceof HttpServerErrorException) {
+            return true;
+        }
+        for (Throwable current = cause; current != null; current = current.getCause()) {
+            if (current instanceof ConnectException || current instanceof ConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // "full jitter": a uniformly random pause up to the exponential ceiling keeps retrying clients from aligning
+    static Duration backoff(final Retry retry, final int attemptNumber) {
+        final double ceiling = Math.min(retry.getMaxBackoff().toNanos(),
+            retry.getInitialBackoff().toNanos() * Math.pow(retry.getMultiplier(), attemptNumber - 1));
+        return Duration.ofNanos((long) (ThreadLocalRandom.current().nextDouble() * ceiling));
+    }
+
+    // the primary runs on the calling thread; the hedge is only a timer until its delay passes, so a call that
+    // finishes in time never touches the hedge pool. A fired hedge that the pool cannot take leaves the call unhedged,
+    // and since the caller cannot be preempted, a running hedge answers when the slow primary fails, waiting at most
+    // one request timeout
+    private <T> T hedged(final Operation operation, final Supplier<T> attempt) {
+        final CompletableFuture<T> hedge = new CompletableFuture<>();
+        final ScheduledFuture<?> trigger;
+        try {
+            trigger = hedgeScheduler.schedule(() -> fire(operation, attempt, hedge),
+                Instant.now().plus(hedgeDelay(operation)));
+        } catch (RejectedExecutionException e) {
+            hedgesRejected.get(operation).increment();
+            return attempt.get();
+        }
+
+        try {
+            return attempt.get();
+        } catch (SystemException e) {
+            // a trigger cancelled before it ran never started a hedge, so there is nothing to wait for
+            if (trigger.cancel(false)) {
+                throw e;
+            }
+            return awaitHedge(hedge, e);
+        } finally {
+            trigger.cancel(false);
+            hedge.cancel(false);
+        }
+    }
+
+    private <T> void fire(final Operation operation, final Supplier<T> attempt, final CompletableFuture<T> hedge) {
+        try {
+            hedgeExecutor.execute(() -> runHedge(operation, attempt, hedge));
+        } catch (RejectedExecutionException e) {
+            hedgesRejected.get(operation).increment();
+            hedge.cancel(false);
+        }
+    }
+
+    // whatever the hedged attempt throws belongs to the caller waiting on the future, not to the pool thread
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private <T> void runHedge(final Operation operation, final Supplier<T> attempt,
+        final CompletableFuture<T> hedge) {
+        // the primary may have answered while the hedge was being handed to the pool
+        if (hedge.isDone() || !withdraw()) {
+            hedge.cancel(false);
+            return;
+        }
+
+        hedges.get(operation).increment();
+        try {
+            hedge.complete(attempt.get());
+        } catch (RuntimeException e) {
+            hedge.completeExceptionally(e);
+        }
+    }
+
+    // a hedge that was never fired, failed, or is still running after the request timeout leaves the primary's error
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    private <T> T awaitHedge(final CompletableFuture<T> hedge, final SystemException primaryFailure) {
+        try {
+            return hedge.get(requestTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException | CancellationException | TimeoutException e) {
+            throw primaryFailure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw interrupted(e);
+        }
+    }
+
+    private Duration hedgeDelay(final Operation operation) {
+        final HedgeDelay current = hedgeDelays.get(operation);
+        final long now = System.nanoTime();
+        if (current != null && now - current.refreshedAt() <= HEDGE_DELAY_REFRESH_NANOS) {
+            return current.delay();
+        }
+
+        final UpstreamProperties.Hedge hedge = properties.getHedge();
+        final Duration p95 = upstreamMetrics.successP95(operation);
+        final Duration capped = p95.isZero() || p95.compareTo(hedge.getMaxDelay()) > 0 ? hedge.getMaxDelay() : p95;
+        final Duration delay = capped.compareTo(hedge.getMinDelay()) < 0 ? hedge.getMinDelay() : capped;
+        hedgeDelays.put(operation, new HedgeDelay(delay, now));
+        return delay;
+    }
+
+    private boolean withdraw() {
+        if (retryBudget.tryWithdraw()) {
+            return true;
+        }
+        budgetExhausted.increment();
+        return false;
+    }
+
+    private static SystemException interrupted(final InterruptedException e) {
+        return new SystemException("Interrupted while waiting for upstream", "Upstream Unavailable",
+            HttpStatus.SERVICE_UNAVAILABLE.value(), e);
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw interrupted(e);
+        }
+    }
+
+    private record HedgeDelay(Duration delay, long refreshedAt) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.audition.integration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.ref.WeakReference;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+// remembers the ETag / Last-Modified of each upstream URL together with a weak reference to the already parsed
+// response, so a 304 answer can hand back the same objects without downloading or deserializing anything; the
+// response itself stays owned by the cache, and once the cache lets go of it the validators stop being sent
+@Getter
+@Component
+public class UpstreamValidators {
+
+    private final Cache<String, Validated> entries;
+    private final Counter notModifiedResponses;
+    private final Counter modifiedResponses;
+
+    public UpstreamValidators(final UpstreamProperties properties, final MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(properties.getValidatorsMaxEntries())
+            .expireAfterWrite(properties.getValidatorsTtl())
+            .build();
+        this.notModifiedResponses = Counter.builder("audition.upstream.conditional")
+            .description("Conditional upstream requests by result")
+            .tag("result", "not-modified")
+            .register(meterRegistry);
+        this.modifiedResponses = Counter.builder("audition.upstream.conditional")
+            .description("Conditional upstream requests by result")
+            .tag("result", "modified")
+            .register(meterRegistry);
+    }
+
+    public HttpHeaders conditionalHeaders(final String url) {
+        final Validated validated = entries.getIfPresent(url);
+        if (validated == null || validated.value().get() == null) {
+            return HttpHeaders.EMPTY;
+        }
+
+        final HttpHeaders headers = new HttpHeaders();
+        if (validated.etag() != null) {
+            headers.setIfNoneMatch(validated.etag());
+        }
+        if (validated.lastModified() >= 0) {
+            headers.setIfModifiedSince(validated.lastModified());
+        }
+        return headers;
+    }
+
+    public Object notModified(final String url) {
+        final Validated validated = entries.getIfPresent(url);
+        final Object value = validated == null ? null : validated.value().get();
+        if (value != null) {
+            notModifiedResponses.increment();
+        }
+        return value;
+    }
+
+    public void store(final String url, final HttpHeaders responseHeaders, final Object value) {
+        final String etag = responseHeaders.getETag();
+        final long lastModified = responseHeaders.getLastModified();
+        if (entries.getIfPresent(url) != null) {
+            modifiedResponses.increment();
+        }
+
+        if (value == null || etag == null && lastModified < 0) {
+            entries.invalidate(url);
+        } else {
+            entries.put(url, new Validated(etag, lastModified, new WeakReference<>(value)));
+        }
+    }
+
+    record Validated(String etag, long lastModified, WeakReference<Object> value) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.audition.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AuditionPostBatch {
+
+    private final List<AuditionPost> posts;
+
+    private final List<AuditionPostError> errors;
+
+}
@@ -0,0 +1,15 @@
+package com.audition.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AuditionPostError {
+
+    private final int id;
+    private final int status;
+    private final String title;
+    private final String detail;
+
+}
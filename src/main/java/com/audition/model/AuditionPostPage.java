@@ -0,0 +1,17 @@
+package com.audition.model;
+
+import java.util.List;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AuditionPostPage {
+
+    private final List<AuditionPost> posts;
+
+    @Nullable
+    private final String nextCursor;
+
+}
@@ -1,11 +1,24 @@
 package com.audition.service;
 
+import com.audition.cache.AuditionCache;
+import com.audition.cache.Versioned;
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.TaskExecutionConfiguration;
 import com.audition.integration.AuditionIntegrationClient;
+import com.audition.integration.UpstreamProperties;
 import com.audition.model.AuditionComment;
 import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatch;
+import com.audition.model.AuditionPostPage;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 import lombok.Getter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 @Getter
@@ -14,41 +27,195 @@ public class AuditionService {
 
     // TODO: Split this into PostService and CommentService
 
+    public static final int MAX_PAGE_LIMIT = 100;
+
+    private final AuditionCache auditionCache;
     private final AuditionIntegrationClient auditionIntegrationClient;
+    private final UpstreamProperties upstreamProperties;
+    private final PostSearchIndex postSearchIndex;
+    private final BatchProperties batchProperties;
+    private final Executor fanOutExecutor;
 
-    public AuditionService(final AuditionIntegrationClient auditionIntegrationClient) {
+    public AuditionService(final AuditionCache auditionCache, final AuditionIntegrationClient auditionIntegrationClient,
+        final UpstreamProperties upstreamProperties, final PostSearchIndex postSearchIndex,
+        final BatchProperties batchProperties,
+        @Qualifier(TaskExecutionConfiguration.FAN_OUT_EXECUTOR) final Executor fanOutExecutor) {
+        this.auditionCache = auditionCache;
         this.auditionIntegrationClient = auditionIntegrationClient;
+        this.upstreamProperties = upstreamProperties;
+        this.postSearchIndex = postSearchIndex;
+        this.batchProperties = batchProperties;
+        this.fanOutExecutor = fanOutExecutor;
     }
 
-    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     public List<AuditionPost> getPosts(final String filter) {
-        final List<AuditionPost> posts = auditionIntegrationClient.getPosts();
+        return getVersionedPosts(filter).value();
+    }
 
-        if (filter != null && !filter.isEmpty()) {
-            final String lowerCaseFilter = filter.toLowerCase(Locale.ROOT);
+    // a filtered result is a pure function of the posts and the filter, so it shares the version of the posts
+    public Versioned<List<AuditionPost>> getVersionedPosts(final String filter) {
+        final Versioned<List<AuditionPost>> posts = auditionCache.getVersionedPosts();
 
-            return posts.stream()
-                .filter(post -> post.getTitle().toLowerCase(Locale.ROOT).contains(lowerCaseFilter) ||
-                    post.getBody().toLowerCase(Locale.ROOT).contains(lowerCaseFilter))
-                .toList();
+        if (activeFilter(filter) != null) {
+            return new Versioned<>(postSearchIndex.search(posts.value(), filter), posts.version());
         }
 
         return posts;
     }
 
+    public AuditionPostPage getPostsPage(final String filter, final int page, final int limit, final String cursor) {
+        final String activeFilter = activeFilter(filter);
+
+        if (cursor != null) {
+            final PageCursor start = PageCursor.decode(cursor,
+                Math.max(MAX_PAGE_LIMIT, upstreamProperties.getPageSize()), activeFilter);
+            return scanPosts(start, activeFilter, 0, limit);
+        }
+        if (activeFilter != null) {
+            final PageCursor start = new PageCursor(1, 0, upstreamProperties.getPageSize());
+            return scanPosts(start, activeFilter, (long) (page - 1) * limit, limit);
+        }
+        return scanPosts(new PageCursor(page, 0, limit), null, 0, limit);
+    }
+
+    // pulls one upstream page at a time and hands matches to the sink before fetching the next page
+    public void streamPosts(final String filter, final Consumer<? super AuditionPost> sink) {
+        final String activeFilter = activeFilter(filter);
+        final int pageSize = upstreamProperties.getPageSize();
+
+        for (int page = 1; ; page++) {
+            final List<AuditionPost> batch = auditionIntegrationClient.getPostsPage(page, pageSize);
+            for (final AuditionPost post : batch) {
+                if (matches(post, activeFilter)) {
+                    sink.accept(post);
+                }
+            }
+            if (batch.size() < pageSize) {
+                return;
+            }
+        }
+    }
+
     public AuditionPost getPostById(final int postId) {
-        return auditionIntegrationClient.getPostById(postId);
+        return auditionCache.getPostById(postId);
+    }
+
+    public Versioned<AuditionPost> getVersionedPostById(final int postId) {
+        return auditionCache.getVersionedPostById(postId);
+    }
+
+    public AuditionPostBatch getPostsByIds(final List<Integer> postIds) {
+        final List<Integer> ids = postIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty() || ids.size() > batchProperties.getMaxIds()) {
+            throw new SystemException("Between 1 and " + batchProperties.getMaxIds() + " post IDs are allowed",
+                "Bad Request", HttpStatus.BAD_REQUEST.value());
+        }
+        return new PostBatchLookup(auditionCache, ids).run(fanOutExecutor, batchProperties.getParallelism());
     }
 
     public AuditionPost getPostWithComments(final int postId) {
-        final AuditionPost post = getPostById(postId);
-        post.setComments(auditionIntegrationClient.getCommentsForPost(postId));
+        return getVersionedPostWithComments(postId).value();
+    }
 
-        return post;
+    // cached parts are answered in place; only when both are missing do the comments load on the fan-out pool while
+    // the post loads on this thread. A failed post cancels the comments and returns without waiting for them, and
+    // comments the pool has not started yet are loaded here instead of waiting behind its queue
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public Versioned<AuditionPost> getVersionedPostWithComments(final int postId) {
+        final Versioned<AuditionPost> cachedPost = auditionCache.getCachedVersionedPost(postId);
+        final Versioned<List<AuditionComment>> cachedComments = auditionCache.getCachedVersionedCommentsForPost(postId);
+        if (cachedPost != null) {
+            return withComments(cachedPost,
+                cachedComments != null ? cachedComments : auditionCache.getVersionedCommentsForPost(postId));
+        }
+        if (cachedComments != null) {
+            return withComments(auditionCache.getVersionedPostById(postId), cachedComments);
+        }
+
+        final FanOutTask<Versioned<List<AuditionComment>>> comments;
+        try {
+            comments = FanOutTask.submit(() -> auditionCache.getVersionedCommentsForPost(postId), fanOutExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new SystemException("Too many concurrent lookups, please retry shortly", "Service Unavailable",
+                HttpStatus.SERVICE_UNAVAILABLE.value(), e);
+        }
+        final Versioned<AuditionPost> post;
+        try {
+            post = auditionCache.getVersionedPostById(postId);
+        } catch (RuntimeException e) {
+            comments.cancel();
+            throw e;
+        }
+        return withComments(post, comments.join());
     }
 
     public List<AuditionComment> getComments(final Integer postId) {
-        return auditionIntegrationClient.getComments(postId);
+        return auditionCache.getComments(postId);
+    }
+
+    public void streamComments(final Integer postId, final Consumer<? super AuditionComment> sink) {
+        auditionCache.getComments(postId).forEach(sink);
+    }
+
+    public Versioned<List<AuditionComment>> getVersionedComments(final Integer postId) {
+        return auditionCache.getVersionedComments(postId);
+    }
+
+    // reads upstream pages one at a time so memory stays bounded by the page and limit sizes
+    @SuppressWarnings("PMD.AvoidReassigningParameters")
+    private AuditionPostPage scanPosts(final PageCursor start, final String filter, long skip,
+        final int limit) {
+        final List<AuditionPost> results = new ArrayList<>(limit);
+        int upstreamPage = start.page();
+        int offset = start.offset();
+
+        while (true) {
+            final List<AuditionPost> batch = auditionIntegrationClient.getPostsPage(upstreamPage, start.limit());
+
+            for (int index = offset; index < batch.size(); index++) {
+                final AuditionPost post = batch.get(index);
+                if (!matches(post, filter)) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+
+                results.add(post);
+                if (results.size() == limit) {
+                    return new AuditionPostPage(results, PageCursor.nextEncoded(upstreamPage, index + 1, batch.size(),
+                        start.limit(), filter));
+                }
+            }
+
+            if (batch.size() < start.limit()) {
+                return new AuditionPostPage(results, null);
+            }
+            upstreamPage++;
+            offset = 0;
+        }
+    }
+
+    private static String activeFilter(final String filter) {
+        return filter == null || filter.isEmpty() ? null : filter;
+    }
+
+    // no filter matches every post
+    private static boolean matches(final AuditionPost post, final String filter) {
+        return filter == null || CaseInsensitiveMatcher.contains(post.getTitle(), filter)
+            || CaseInsensitiveMatcher.contains(post.getBody(), filter);
+    }
+
+    private static Versioned<AuditionPost> withComments(final Versioned<AuditionPost> post,
+        final Versioned<List<AuditionComment>> comments) {
+        final AuditionPost found = post.value();
+        return new Versioned<>(new AuditionPost(found.getUserId(), found.getId(), found.getTitle(), found.getBody(),
+            comments.value()), combine(post.version(), comments.version()));
+    }
+
+    private static String combine(final String first, final String second) {
+        return first == null || second == null ? null : first + "." + second;
     }
 
 }
@@ -0,0 +1,15 @@
+package com.audition.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.batch")
+public class BatchProperties {
+
+    private int maxIds = 100;
+    private int parallelism = 8;
+
+}
@@ -0,0 +1,33 @@
+package com.audition.service;
+
+final class CaseInsensitiveMatcher {
+
+    private CaseInsensitiveMatcher() {
+    }
+
+    // compares in place with String.regionMatches instead of lower-casing a copy of every text it is asked about
+    static boolean contains(final String text, final String query) {
+        if (text == null) {
+            return false;
+        }
+        if (query.isEmpty()) {
+            return true;
+        }
+
+        final char first = query.charAt(0);
+        final int last = text.length() - query.length();
+        for (int start = 0; start <= last; start++) {
+            if (sameIgnoringCase(text.charAt(start), first)
+                && text.regionMatches(true, start, query, 0, query.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean sameIgnoringCase(final char left, final char right) {
+        return left == right
+            || Character.toUpperCase(left) == Character.toUpperCase(right)
+            || Character.toLowerCase(left) == Character.toLowerCase(right);
+    }
+}
@@ -0,0 +1,61 @@
+package com.audition.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+// work handed to the fan-out pool that the submitter can take back while it is still queued, so a saturated pool
+// never leaves a request waiting for a task that has not started
+final class FanOutTask<T> {
+
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final Supplier<T> work;
+
+    private FanOutTask(final Supplier<T> work) {
+        this.work = work;
+    }
+
+    // throws the executor's RejectedExecutionException when the pool has no room at all
+    static <T> FanOutTask<T> submit(final Supplier<T> work, final Executor executor) {
+        final FanOutTask<T> task = new FanOutTask<>(work);
+        executor.execute(task::runIfUnclaimed);
+        return task;
+    }
+
+    // true when the task had not started and now never will; a task already running is left to finish and can
+    // still be joined
+    boolean cancel() {
+        return claimed.compareAndSet(false, true);
+    }
+
+    // runs the work on the calling thread when the pool has not picked it up yet, otherwise waits for the pool
+    T join() {
+        if (claimed.compareAndSet(false, true)) {
+            return work.get();
+        }
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // whatever the work throws belongs to the submitter waiting in join, not to the pool thread
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void runIfUnclaimed() {
+        if (!claimed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            result.complete(work.get());
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
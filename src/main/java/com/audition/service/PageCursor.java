@@ -0,0 +1,55 @@
+package com.audition.service;
+
+import com.audition.common.exception.SystemException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import org.springframework.http.HttpStatus;
+
+record PageCursor(int page, int offset, int limit) {
+
+    private static final String SEPARATOR = ":";
+    private static final int FIELD_COUNT = 4;
+
+    // the cursor carries a fingerprint of the filter it was issued for, since its offsets only make sense there
+    String encode(final String filter) {
+        final String value = page + SEPARATOR + offset + SEPARATOR + limit + SEPARATOR + Objects.hashCode(filter);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // the encoded cursor of the page after a full one: further into the same upstream page, or at the start of the
+    // next upstream page unless this one came back short and was the last
+    static String nextEncoded(final int page, final int offset, final int batchSize, final int limit,
+        final String filter) {
+        if (offset < batchSize) {
+            return new PageCursor(page, offset, limit).encode(filter);
+        }
+        return batchSize < limit ? null : new PageCursor(page + 1, 0, limit).encode(filter);
+    }
+
+    // the limit goes upstream as _limit, so a forged cursor must not ask for more than a regular request can
+    static PageCursor decode(final String cursor, final int maxLimit, final String filter) {
+        try {
+            final String[] fields = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(SEPARATOR);
+            if (fields.length == FIELD_COUNT) {
+                final PageCursor pageCursor = new PageCursor(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]),
+                    Integer.parseInt(fields[2]));
+                if (pageCursor.isWithin(maxLimit) && Integer.parseInt(fields[3]) == Objects.hashCode(filter)) {
+                    return pageCursor;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor(cursor, e);
+        }
+        throw invalidCursor(cursor, null);
+    }
+
+    private boolean isWithin(final int maxLimit) {
+        return page > 0 && offset >= 0 && limit > 0 && limit <= maxLimit;
+    }
+
+    private static SystemException invalidCursor(final String cursor, final Exception cause) {
+        return new SystemException("Invalid cursor " + cursor, "Bad Request", HttpStatus.BAD_REQUEST.value(), cause);
+    }
+}
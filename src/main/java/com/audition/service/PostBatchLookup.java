@@ -0,0 +1,113 @@
+package com.audition.service;
+
+import com.audition.cache.AuditionCache;
+import com.audition.common.exception.SystemException;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatch;
+import com.audition.model.AuditionPostError;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.http.HttpStatus;
+
+// one batch request: every id owns a slot for its post or its error. Cached posts are answered in place; the rest
+// are drained from a shared queue by at most `parallelism` workers, and a failure is reported against its id
+// instead of failing the batch
+final class PostBatchLookup {
+
+    private static final int MIN_POST_ID = 1;
+
+    private final AuditionCache auditionCache;
+    private final List<Integer> ids;
+    private final AuditionPost[] posts;
+    private final AuditionPostError[] errors;
+    private final Queue<Integer> pending = new ConcurrentLinkedQueue<>();
+
+    PostBatchLookup(final AuditionCache auditionCache, final List<Integer> ids) {
+        this.auditionCache = auditionCache;
+        this.ids = ids;
+        this.posts = new AuditionPost[ids.size()];
+        this.errors = new AuditionPostError[ids.size()];
+    }
+
+    AuditionPostBatch run(final Executor fanOutExecutor, final int parallelism) {
+        for (int index = 0; index < ids.size(); index++) {
+            final int postId = ids.get(index);
+            if (postId < MIN_POST_ID) {
+                errors[index] = invalidPostId(postId);
+                continue;
+            }
+            posts[index] = auditionCache.getCachedPost(postId);
+            if (posts[index] == null) {
+                pending.add(index);
+            }
+        }
+
+        fanOut(fanOutExecutor, parallelism);
+
+        final List<AuditionPost> found = new ArrayList<>(ids.size());
+        final List<AuditionPostError> failed = new ArrayList<>();
+        for (int index = 0; index < ids.size(); index++) {
+            if (posts[index] != null) {
+                found.add(posts[index]);
+            } else if (errors[index] != null) {
+                failed.add(errors[index]);
+            }
+        }
+        return new AuditionPostBatch(found, failed);
+    }
+
+    // the calling thread is one of the workers, and it drains whatever the fan-out pool has no room for. Once the
+    // queue is empty, helpers the pool has not started yet would find nothing to do, so only the ones already
+    // draining are waited for
+    private void fanOut(final Executor fanOutExecutor, final int parallelism) {
+        final int helpers = Math.min(pending.size(), parallelism) - 1;
+        final List<FanOutTask<Void>> submitted = new ArrayList<>(Math.max(helpers, 0));
+        for (int helper = 0; helper < helpers; helper++) {
+            try {
+                submitted.add(FanOutTask.submit(() -> {
+                    drain();
+                    return null;
+                }, fanOutExecutor));
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        drain();
+        for (final FanOutTask<Void> helper : submitted) {
+            if (!helper.cancel()) {
+                helper.join();
+            }
+        }
+    }
+
+    private void drain() {
+        for (Integer index = pending.poll(); index != null; index = pending.poll()) {
+            fetch(index);
+        }
+    }
+
+    // any failure of one lookup belongs to that id only, so it is caught here rather than escaping the worker
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void fetch(final int index) {
+        final int postId = ids.get(index);
+        try {
+            posts[index] = auditionCache.getPostById(postId);
+        } catch (SystemException e) {
+            errors[index] = new AuditionPostError(postId,
+                e.getStatusCode() == null ? HttpStatus.INTERNAL_SERVER_ERROR.value() : e.getStatusCode(),
+                e.getTitle(), e.getMessage());
+        } catch (RuntimeException e) {
+            errors[index] = new AuditionPostError(postId, HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                SystemException.DEFAULT_TITLE, e.getMessage());
+        }
+    }
+
+    private static AuditionPostError invalidPostId(final int postId) {
+        return new AuditionPostError(postId, HttpStatus.BAD_REQUEST.value(), "Bad Request",
+            "Invalid post ID " + postId);
+    }
+}
@@ -0,0 +1,184 @@
+package com.audition.service;
+
+import com.audition.model.AuditionPost;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class PostSearchIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final int TITLE_SCORE = 2;
+    private static final int BODY_SCORE = 1;
+
+    private final SearchProperties searchProperties;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(
+        new Snapshot(List.of(), new Document[0], Map.of()));
+
+    public PostSearchIndex(final SearchProperties searchProperties) {
+        this.searchProperties = searchProperties;
+    }
+
+    public List<AuditionPost> search(final List<AuditionPost> posts, final String filter) {
+        final Snapshot current = snapshotOf(posts);
+        final String query = filter.toLowerCase(Locale.ROOT);
+
+        final int[] candidates = candidates(current, query);
+        final int count = candidates == null ? current.documents().length : candidates.length;
+
+        final List<Hit> hits = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            final int position = candidates == null ? index : candidates[index];
+            final int score = current.documents()[position].score(query);
+            if (score > 0) {
+                hits.add(new Hit(position, score));
+            }
+        }
+
+        return hits.stream()
+            .sorted(Comparator.comparingInt(Hit::score).reversed().thenComparingInt(Hit::position))
+            .limit(searchProperties.getMaxResults())
+            .map(hit -> current.documents()[hit.position()].post())
+            .toList();
+    }
+
+    // the cache hands out the same list instance until it refreshes, so identity tells us when to re-index
+    private Snapshot snapshotOf(final List<AuditionPost> posts) {
+        final Snapshot current = snapshot.get();
+        if (current.source() == posts) { // NOPMD - CompareObjectsWithEquals: identity is intended
+            return current;
+        }
+        final Snapshot rebuilt = Snapshot.build(posts, current);
+        snapshot.set(rebuilt);
+        return rebuilt;
+    }
+
+    // null means every document is a candidate: short queries have no gram to look up
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    private static int[] candidates(final Snapshot snapshot, final String query) {
+        if (query.length() < GRAM_LENGTH) {
+            return null;
+        }
+
+        int[] smallest = null;
+        for (int start = 0; start + GRAM_LENGTH <= query.length(); start++) {
+            final int[] postings = snapshot.postings().get(query.substring(start, start + GRAM_LENGTH));
+            if (postings == null) {
+                return new int[0];
+            }
+            if (smallest == null || postings.length < smallest.length) {
+                smallest = postings;
+            }
+        }
+        return smallest;
+    }
+
+    private static Set<String> trigrams(final String text) {
+        final Set<String> grams = new HashSet<>();
+        for (int start = 0; start + GRAM_LENGTH <= text.length(); start++) {
+            grams.add(text.substring(start, start + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private record Hit(int position, int score) {
+    }
+
+    private record Document(AuditionPost post, String title, String body, Set<String> grams) {
+
+        static Document from(final AuditionPost post) {
+            final String title = fold(post.getTitle());
+            final String body = fold(post.getBody());
+            final Set<String> grams = trigrams(title);
+            grams.addAll(trigrams(body));
+            return new Document(post, title, body, grams);
+        }
+
+        boolean indexes(final AuditionPost candidate) {
+            return Objects.equals(post.getTitle(), candidate.getTitle())
+                && Objects.equals(post.getBody(), candidate.getBody());
+        }
+
+        Document withPost(final AuditionPost candidate) {
+            return new Document(candidate, title, body, grams);
+        }
+
+        int score(final String query) {
+            return (title.contains(query) ? TITLE_SCORE : 0) + (body.contains(query) ? BODY_SCORE : 0);
+        }
+
+        private static String fold(final String value) {
+            return value == null ? "" : value.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private record Snapshot(List<AuditionPost> source, Document[] documents, Map<String, int[]> postings) {
+
+        // documents of posts whose text did not change since the last refresh are reused rather than re-tokenised
+        static Snapshot build(final List<AuditionPost> posts, final Snapshot previous) {
+            final Map<Integer, Document> reusable = new ConcurrentHashMap<>();
+            for (final Document document : previous.documents()) {
+                reusable.put(document.post().getId(), document);
+            }
+
+            final Document[] documents = new Document[posts.size()];
+            final Postings postings = new Postings();
+            for (int position = 0; position < documents.length; position++) {
+                final AuditionPost post = posts.get(position);
+                final Document known = reusable.get(post.getId());
+                documents[position] = known != null && known.indexes(post) ? known.withPost(post) : Document.from(post);
+                for (final String gram : documents[position].grams()) {
+                    postings.add(gram, position);
+                }
+            }
+
+            return new Snapshot(posts, documents, postings.compact());
+        }
+    }
+
+    // built on the refreshing thread, then read by every concurrent search once its snapshot is published
+    private static final class Postings {
+
+        private final Map<String, PostingList> lists = new ConcurrentHashMap<>();
+
+        void add(final String gram, final int position) {
+            lists.computeIfAbsent(gram, key -> new PostingList()).add(position);
+        }
+
+        Map<String, int[]> compact() {
+            final Map<String, int[]> compacted = new ConcurrentHashMap<>(lists.size());
+            lists.forEach((gram, list) -> compacted.put(gram, list.toArray()));
+            return compacted;
+        }
+    }
+
+    private static final class PostingList {
+
+        private int[] positions = new int[4];
+        private int size;
+
+        void add(final int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
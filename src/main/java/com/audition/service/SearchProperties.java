@@ -0,0 +1,14 @@
+package com.audition.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.search")
+public class SearchProperties {
+
+    private int maxResults = 100;
+
+}
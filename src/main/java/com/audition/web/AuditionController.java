@@ -1,16 +1,25 @@
 package com.audition.web;
 
 import com.audition.common.exception.SystemException;
-import com.audition.model.AuditionComment;
 import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatch;
+import com.audition.model.AuditionPostPage;
 import com.audition.service.AuditionService;
+import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.Getter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @Getter
 @RestController
@@ -19,46 +28,159 @@ public class AuditionController {
     // TODO: Split this into PostController and CommentController
 
     private static final int MIN_POST_ID = 1;
+    private static final int MIN_PAGE = 1;
+    private static final int MIN_LIMIT = 1;
+    private static final int MAX_LIMIT = AuditionService.MAX_PAGE_LIMIT;
+    private static final int DEFAULT_LIMIT = 10;
 
     private final AuditionService auditionService;
+    private final CacheControlProperties cacheControlProperties;
+    private final CachedResponses cachedResponses;
+    private final JsonStreamWriter jsonStreamWriter;
 
-    public AuditionController(final AuditionService auditionService) {
+    public AuditionController(final AuditionService auditionService,
+        final CacheControlProperties cacheControlProperties, final CachedResponses cachedResponses,
+        final JsonStreamWriter jsonStreamWriter) {
         this.auditionService = auditionService;
+        this.cacheControlProperties = cacheControlProperties;
+        this.cachedResponses = cachedResponses;
+        this.jsonStreamWriter = jsonStreamWriter;
     }
 
     @GetMapping("/posts")
-    public List<AuditionPost> getPosts(@RequestParam(value = "filter", required = false) final String filter) {
-        return auditionService.getPosts(filter);
+    public ResponseEntity<?> getPosts(
+        @RequestParam(value = "filter", required = false) final String filter,
+        @RequestParam(value = "page", required = false) final Integer page,
+        @RequestParam(value = "limit", required = false) final Integer limit,
+        @RequestParam(value = "cursor", required = false) final String cursor,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding,
+        final HttpServletRequest request) {
+        final String activeFilter = filter == null || filter.isEmpty() ? null : filter;
+        if (page == null && limit == null && cursor == null) {
+            return cachedResponses.respond(activeFilter == null ? "posts" : "posts?filter=" + activeFilter,
+                auditionService.getVersionedPosts(activeFilter), cacheControlProperties.getPosts(), acceptEncoding,
+                request);
+        }
+        return postsPage(activeFilter, page, limit, cursor);
     }
 
-    @GetMapping("/posts/{id}")
-    public AuditionPost getPostById(@PathVariable("id") final int postId) {
-        if (postId < MIN_POST_ID) {
-            throw new SystemException("Invalid post ID " + postId, "Bad Request",
-                HttpStatus.BAD_REQUEST.value());
+    private ResponseEntity<List<AuditionPost>> postsPage(final String filter, final Integer page, final Integer limit,
+        final String cursor) {
+        validatePage(page, cursor);
+        validateLimit(limit);
+        final int pageLimit = limit == null ? DEFAULT_LIMIT : limit;
+        final AuditionPostPage postPage = auditionService.getPostsPage(filter, page == null ? MIN_PAGE : page,
+            pageLimit, cursor);
+
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (postPage.getNextCursor() != null) {
+            response.header(HttpHeaders.LINK, "<" + nextLink(filter, pageLimit, postPage.getNextCursor())
+                + ">; rel=\"next\"");
         }
+        return response.body(postPage.getPosts());
+    }
 
-        return auditionService.getPostById(postId);
+    private static void validatePage(final Integer page, final String cursor) {
+        if (page != null && cursor != null) {
+            throw badRequest("Parameters page and cursor cannot be combined");
+        }
+        if (page != null && page < MIN_PAGE) {
+            throw badRequest("Invalid page " + page);
+        }
     }
 
-    @GetMapping("/posts/{id}/comments")
-    public AuditionPost getPostWithComments(@PathVariable("id") final int postId) {
-        if (postId < MIN_POST_ID) {
-            throw new SystemException("Invalid post ID " + postId, "Bad Request",
-                HttpStatus.BAD_REQUEST.value());
+    private static void validateLimit(final Integer limit) {
+        if (limit != null && (limit < MIN_LIMIT || limit > MAX_LIMIT)) {
+            throw badRequest("Invalid limit " + limit + ", must be between 1 and " + MAX_LIMIT);
         }
+    }
 
-        return auditionService.getPostWithComments(postId);
+    // built from the resolved parameters rather than the raw query string, so the link always keeps the limit
+    private static String nextLink(final String filter, final int limit, final String cursor) {
+        final ServletUriComponentsBuilder next = ServletUriComponentsBuilder.fromCurrentRequestUri();
+        if (filter != null) {
+            next.queryParam("filter", filter);
+        }
+        return next.queryParam("limit", limit)
+            .queryParam("cursor", cursor)
+            .toUriString();
+    }
+
+    @GetMapping(value = "/posts", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamPosts(
+        @RequestParam(value = "filter", required = false) final String filter,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) final String accept) {
+        return streaming(accept, sink -> auditionService.streamPosts(filter, sink));
+    }
+
+    // unknown or failing ids come back in errors next to the posts that were found, so the batch itself succeeds
+    @GetMapping(value = "/posts", params = "ids")
+    public AuditionPostBatch getPostsByIds(@RequestParam("ids") final List<Integer> postIds) {
+        return auditionService.getPostsByIds(postIds);
+    }
+
+    @GetMapping("/posts/{id}")
+    public ResponseEntity<?> getPostById(@PathVariable("id") final int postId,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding,
+        final HttpServletRequest request) {
+        validatePostId(postId);
+
+        return cachedResponses.respond("post:" + postId, auditionService.getVersionedPostById(postId),
+            cacheControlProperties.getPost(), acceptEncoding, request);
+    }
+
+    @GetMapping("/posts/{id}/comments")
+    public ResponseEntity<?> getPostWithComments(@PathVariable("id") final int postId,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding,
+        final HttpServletRequest request) {
+        validatePostId(postId);
+
+        return cachedResponses.respond("post-comments:" + postId, auditionService.getVersionedPostWithComments(postId),
+            cacheControlProperties.getPostComments(), acceptEncoding, request);
     }
 
     @GetMapping("/comments")
-    public List<AuditionComment> getComments(@RequestParam(required = false) final Integer postId) {
-        if (postId != null && postId < MIN_POST_ID) {
-            throw new SystemException("Invalid post ID " + postId, "Bad Request",
-                HttpStatus.BAD_REQUEST.value());
+    public ResponseEntity<?> getComments(@RequestParam(required = false) final Integer postId,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding,
+        final HttpServletRequest request) {
+        if (postId != null) {
+            validatePostId(postId);
+        }
+
+        return cachedResponses.respond("comments:" + (postId == null ? "all" : postId),
+            auditionService.getVersionedComments(postId), cacheControlProperties.getComments(), acceptEncoding,
+            request);
+    }
+
+    @GetMapping(value = "/comments", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamComments(
+        @RequestParam(required = false) final Integer postId,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) final String accept) {
+        if (postId != null) {
+            validatePostId(postId);
         }
 
-        return auditionService.getComments(postId);
+        return streaming(accept, sink -> auditionService.streamComments(postId, sink));
     }
 
+    private static void validatePostId(final int postId) {
+        if (postId < MIN_POST_ID) {
+            throw badRequest("Invalid post ID " + postId);
+        }
+    }
+
+    private static SystemException badRequest(final String detail) {
+        return new SystemException(detail, "Bad Request", HttpStatus.BAD_REQUEST.value());
+    }
+
+    // NDJSON when the client accepts it, otherwise a JSON array written element by element
+    private <T> ResponseEntity<StreamingResponseBody> streaming(final String accept,
+        final Consumer<Consumer<T>> source) {
+        if (accept != null && MediaType.parseMediaTypes(accept).stream()
+            .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype)) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON)
+                .body(jsonStreamWriter.ndjson(source));
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(jsonStreamWriter.jsonArray(source));
+    }
 }
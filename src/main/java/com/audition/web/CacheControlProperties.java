@@ -0,0 +1,19 @@
+package com.audition.web;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// how long clients may reuse a response before revalidating it with its ETag; zero means always revalidate
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.cache-control")
+public class CacheControlProperties {
+
+    private Duration posts = Duration.ofSeconds(30);
+    private Duration post = Duration.ofSeconds(30);
+    private Duration postComments = Duration.ofSeconds(30);
+    private Duration comments = Duration.ofSeconds(30);
+
+}
@@ -0,0 +1,83 @@
+package com.audition.web;
+
+import com.audition.cache.Versioned;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.Getter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+// turns versioned content into responses carrying ETag, Cache-Control and, once a version is known, cached bytes
+@Getter
+@Component
+public class CachedResponses {
+
+    private final PrecompressedPayloads precompressedPayloads;
+    // content versions restart with the process, so a per-instance prefix keeps old ETags from matching
+    private final String instanceTag = UUID.randomUUID().toString().substring(0, 8);
+
+    public CachedResponses(final PrecompressedPayloads precompressedPayloads) {
+        this.precompressedPayloads = precompressedPayloads;
+    }
+
+    // writes bytes kept per content version, so repeated reads skip both serialization and compression;
+    // the byte[] body goes through ByteArrayHttpMessageConverter, a plain copy into the servlet output stream.
+    // A matching If-None-Match is answered before the payload is looked up, so a 304 never serializes or compresses
+    public ResponseEntity<?> respond(final String key, final Versioned<?> versioned, final Duration maxAge,
+        final String acceptEncoding, final HttpServletRequest request) {
+        final String version = versioned.version();
+        if (version == null) {
+            return cacheable(versioned, maxAge);
+        }
+
+        final ContentEncoding expected = precompressedPayloads.negotiate(acceptEncoding, key, version);
+        // no response is passed, so the check only evaluates the preconditions and writes no headers of its own
+        if (new ServletWebRequest(request).checkNotModified(etag(version, expected))) {
+            return representation(ResponseEntity.status(HttpStatus.NOT_MODIFIED), version, expected, maxAge).build();
+        }
+
+        final PrecompressedPayloads.Payload payload = precompressedPayloads.get(key, versioned);
+        final ContentEncoding encoding = precompressedPayloads.negotiate(acceptEncoding, payload);
+        final ResponseEntity.BodyBuilder response = representation(ResponseEntity.ok(), version, encoding, maxAge)
+            .contentType(MediaType.APPLICATION_JSON);
+        if (encoding != ContentEncoding.IDENTITY) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding.getToken());
+        }
+        return response.body(payload.bytes(encoding));
+    }
+
+    // Spring answers a matching If-None-Match with 304 from these headers before the body is serialized
+    private <T> ResponseEntity<T> cacheable(final Versioned<T> versioned, final Duration maxAge) {
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(cacheControl(maxAge));
+        if (versioned.version() != null) {
+            response.eTag(etag(versioned.version()));
+        }
+        return response.body(versioned.value());
+    }
+
+    private ResponseEntity.BodyBuilder representation(final ResponseEntity.BodyBuilder response, final String version,
+        final ContentEncoding encoding, final Duration maxAge) {
+        return response.eTag(etag(version, encoding))
+            .cacheControl(cacheControl(maxAge))
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    // each encoding is a different byte sequence, so it needs its own strong ETag
+    private String etag(final String version, final ContentEncoding encoding) {
+        return encoding == ContentEncoding.IDENTITY ? etag(version) : etag(version + "-" + encoding.getToken());
+    }
+
+    private String etag(final String version) {
+        return "\"" + instanceTag + "-" + version + "\"";
+    }
+
+    private static CacheControl cacheControl(final Duration maxAge) {
+        return maxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAge);
+    }
+}
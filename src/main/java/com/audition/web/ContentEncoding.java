@@ -0,0 +1,57 @@
+package com.audition.web;
+
+import java.util.Locale;
+import lombok.Getter;
+
+@Getter
+enum ContentEncoding {
+
+    BROTLI("br"),
+    GZIP("gzip"),
+    IDENTITY("identity");
+
+    private final String token;
+
+    ContentEncoding(final String token) {
+        this.token = token;
+    }
+
+    // picks the smallest encoding the client accepts; a coding listed with q=0 is refused
+    static ContentEncoding negotiate(final String acceptEncoding, final boolean brotliAvailable) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+
+        boolean brotli = false;
+        boolean gzip = false;
+        for (final String part : acceptEncoding.split(",")) {
+            final String[] parameters = part.split(";");
+            final String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+            if (isRefused(parameters)) {
+                continue;
+            }
+            final boolean wildcard = "*".equals(coding);
+            brotli |= wildcard || BROTLI.token.equals(coding);
+            gzip |= wildcard || GZIP.token.equals(coding);
+        }
+
+        if (brotli && brotliAvailable) {
+            return BROTLI;
+        }
+        return gzip ? GZIP : IDENTITY;
+    }
+
+    private static boolean isRefused(final String... parameters) {
+        for (int index = 1; index < parameters.length; index++) {
+            final String parameter = parameters[index].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,91 @@
+package com.audition.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// writes items as they are produced, so a response never holds more than the items between two flushes
+@Getter
+@Component
+public class JsonStreamWriter {
+
+    static final int FLUSH_INTERVAL = 64;
+
+    private final ObjectMapper objectMapper;
+    // the shared mapper flushes after every value, which would turn each element into its own write to the client
+    private final ObjectWriter elementWriter;
+
+    public JsonStreamWriter(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    <T> StreamingResponseBody jsonArray(final Consumer<Consumer<T>> source) {
+        return out -> write(out, source, false);
+    }
+
+    <T> StreamingResponseBody ndjson(final Consumer<Consumer<T>> source) {
+        return out -> write(out, source, true);
+    }
+
+    private <T> void write(final OutputStream out, final Consumer<Consumer<T>> source, final boolean ndjson)
+        throws IOException {
+        // the array is only closed after the source completes, so a stream cut short by an upstream failure
+        // stays malformed instead of reading as a complete but truncated result
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+            generator.setRootValueSeparator(null);
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+            // a failed write ends the source early, so a disconnected client stops further upstream paging
+            source.accept(new ElementWriter<>(elementWriter, generator, ndjson));
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ElementWriter<T> implements Consumer<T> {
+
+        private final ObjectWriter writer;
+        private final JsonGenerator generator;
+        private final boolean ndjson;
+        private int pending;
+
+        ElementWriter(final ObjectWriter writer, final JsonGenerator generator, final boolean ndjson) {
+            this.writer = writer;
+            this.generator = generator;
+            this.ndjson = ndjson;
+        }
+
+        @Override
+        public void accept(final T item) {
+            try {
+                writer.writeValue(generator, item);
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+                // a blocking flush hands the bytes to the client before more items are produced
+                pending++;
+                if (pending == FLUSH_INTERVAL) {
+                    generator.flush();
+                    pending = 0;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.audition.web;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.audition.cache.Versioned;
+import com.audition.common.exception.SystemException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+// serialized and compressed response bodies keyed by endpoint and query, rebuilt only when the content version changes
+@Getter
+@Component
+public class PrecompressedPayloads {
+
+    private static final int BROTLI_QUALITY = 9;
+
+    private final ObjectMapper objectMapper;
+    private final Compression compression;
+    private final boolean brotliAvailable;
+    private final Cache<String, Payload> payloads;
+
+    @Autowired
+    public PrecompressedPayloads(final ObjectMapper objectMapper, final ServerProperties serverProperties,
+        final ResponseCacheProperties properties) {
+        this(objectMapper, serverProperties.getCompression(), loadBrotli(properties), properties);
+    }
+
+    PrecompressedPayloads(final ObjectMapper objectMapper, final Compression compression,
+        final boolean brotliAvailable, final ResponseCacheProperties properties) {
+        this.objectMapper = objectMapper;
+        this.compression = compression;
+        this.brotliAvailable = brotliAvailable;
+        // compressed forms are added lazily, so weigh each entry as if it held twice its JSON
+        this.payloads = Caffeine.newBuilder()
+            .maximumWeight(properties.getMaxWeight().toBytes())
+            .weigher((String key, Payload payload) -> payload.getJson().length * 2)
+            .build();
+    }
+
+    // the native encoder is a per-platform artifact, so a deployment target missing from the build only shows here
+    static boolean loadBrotli(final ResponseCacheProperties properties) {
+        if (Brotli4jLoader.isAvailable()) {
+            return true;
+        }
+        if (properties.isBrotliRequired()) {
+            throw new IllegalStateException("Brotli native library is not available for "
+                + System.getProperty("os.name") + "/" + System.getProperty("os.arch")
+                + "; add the platform to -Pbrotli4jPlatforms at build time"
+                + " or set application.response-cache.brotli-required=false", Brotli4jLoader.getUnavailabilityCause());
+        }
+        return false;
+    }
+
+    Payload get(final String key, final Versioned<?> versioned) {
+        return payloads.asMap().compute(key, (k, existing) ->
+            existing != null && existing.getVersion().equals(versioned.version())
+                ? existing : new Payload(versioned, objectMapper));
+    }
+
+    ContentEncoding negotiate(final String acceptEncoding, final Payload payload) {
+        if (!compression.getEnabled() || payload.getJson().length < compression.getMinResponseSize().toBytes()) {
+            return ContentEncoding.IDENTITY;
+        }
+        return ContentEncoding.negotiate(acceptEncoding, brotliAvailable);
+    }
+
+    // the encoding a request for this version would get, without serializing it; the body size is only known once
+    // the payload exists, so an unbuilt one is assumed large enough to compress
+    ContentEncoding negotiate(final String acceptEncoding, final String key, final String version) {
+        final Payload cached = payloads.getIfPresent(key);
+        if (cached != null && cached.getVersion().equals(version)) {
+            return negotiate(acceptEncoding, cached);
+        }
+        return compression.getEnabled() ? ContentEncoding.negotiate(acceptEncoding, brotliAvailable)
+            : ContentEncoding.IDENTITY;
+    }
+
+    private static byte[] serialize(final ObjectMapper objectMapper, final Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new SystemException("Cannot serialize response", "Internal Server Error",
+                HttpStatus.INTERNAL_SERVER_ERROR.value(), e);
+        }
+    }
+
+    private static byte[] encode(final ContentEncoding encoding, final byte[] json) {
+        try {
+            if (encoding == ContentEncoding.BROTLI) {
+                return Encoder.compress(json, new Encoder.Parameters().setQuality(BROTLI_QUALITY));
+            }
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(json);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SystemException("Cannot compress response", "Internal Server Error",
+                HttpStatus.INTERNAL_SERVER_ERROR.value(), e);
+        }
+    }
+
+    @Getter
+    static final class Payload {
+
+        private final String version;
+        private final byte[] json;
+        private final Map<ContentEncoding, byte[]> encoded = new ConcurrentHashMap<>();
+
+        Payload(final Versioned<?> versioned, final ObjectMapper objectMapper) {
+            this.version = versioned.version();
+            this.json = serialize(objectMapper, versioned.value());
+        }
+
+        // the arrays are shared by every response of this version and never written to
+        @SuppressWarnings("PMD.MethodReturnsInternalArray")
+        byte[] bytes(final ContentEncoding encoding) {
+            if (encoding == ContentEncoding.IDENTITY) {
+                return json;
+            }
+            return encoded.computeIfAbsent(encoding, e -> encode(e, json));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.audition.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.response-cache")
+public class ResponseCacheProperties {
+
+    private DataSize maxWeight = DataSize.ofMegabytes(32);
+    // fail startup when the brotli native for this platform is missing instead of silently serving gzip only
+    private boolean brotliRequired = true;
+
+}
@@ -0,0 +1,320 @@
+package com.audition.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.integration.AuditionIntegrationClient;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+class AuditionCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final Duration STALE_TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private AuditionIntegrationClient auditionIntegrationClient;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AuditionCache auditionCache;
+
+    @BeforeEach
+    void setUp() {
+        auditionCache = new AuditionCache(auditionIntegrationClient, new CacheProperties(),
+            new WebServiceConfiguration().objectMapper(), meterRegistry, nanos::get, pendingTasks::add);
+    }
+
+    private void advance(final Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private void runPendingTasks() {
+        final List<Runnable> tasks = new ArrayList<>(pendingTasks);
+        pendingTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    void getPostById_CachesUpstreamResult() {
+        AuditionPost post = new AuditionPost(1, 1, "Title1", "Body1");
+        when(auditionIntegrationClient.getPostById(1)).thenReturn(post);
+
+        assertSame(post, auditionCache.getPostById(1));
+        assertSame(post, auditionCache.getPostById(1));
+        verify(auditionIntegrationClient, times(1)).getPostById(1);
+    }
+
+    @Test
+    void getCachedPost_AnswersWithoutLoading() {
+        AuditionPost post = new AuditionPost(1, 1, "Title1", "Body1");
+        when(auditionIntegrationClient.getPostById(1)).thenReturn(post);
+
+        assertNull(auditionCache.getCachedPost(1));
+        auditionCache.getPostById(1);
+
+        assertSame(post, auditionCache.getCachedPost(1));
+        verify(auditionIntegrationClient, times(1)).getPostById(1);
+    }
+
+    @Test
+    void getPostById_ServesStaleEntryWhileSingleRefreshRuns() {
+        AuditionPost stale = new AuditionPost(1, 1, "Old", "Body");
+        AuditionPost fresh = new AuditionPost(1, 1, "New", "Body");
+        when(auditionIntegrationClient.getPostById(1)).thenReturn(stale, fresh);
+
+        auditionCache.getPostById(1);
+        advance(TTL.plusSeconds(1));
+
+        assertSame(stale, auditionCache.getPostById(1));
+        assertSame(stale, auditionCache.getPostById(1));
+        runPendingTasks();
+
+        assertSame(fresh, auditionCache.getPostById(1));
+        verify(auditionIntegrationClient, times(2)).getPostById(1);
+    }
+
+    @Test
+    void getPostById_ReloadsOnceStaleWindowHasPassed() {
+        AuditionPost expired = new AuditionPost(1, 1, "Old", "Body");
+        AuditionPost fresh = new AuditionPost(1, 1, "New", "Body");
+        when(auditionIntegrationClient.getPostById(1)).thenReturn(expired, fresh);
+
+        auditionCache.getPostById(1);
+        advance(TTL.plus(STALE_TTL).plusSeconds(1));
+
+        assertSame(fresh, auditionCache.getPostById(1));
+    }
+
+    @Test
+    void getPostById_DoesNotCacheFailures() {
+        SystemException unavailable = new SystemException("Upstream post calls are suspended", "Upstream Unavailable",
+            HttpStatus.SERVICE_UNAVAILABLE.value());
+        AuditionPost post = new AuditionPost(1, 1, "Title1", "Body1");
+        when(auditionIntegrationClient.getPostById(1)).thenThrow(unavailable).thenReturn(post);
+
+        assertSame(unavailable, assertThrows(SystemException.class, () -> auditionCache.getPostById(1)));
+        assertSame(post, auditionCache.getPostById(1));
+    }
+
+    @Test
+    void getPostById_AnswersRepeatedNotFoundLocally() {
+        when(auditionIntegrationClient.getPostById(99)).thenThrow(
+            new SystemException("Cannot find post with ID 99", "Resource Not Found", HttpStatus.NOT_FOUND.value()));
+
+        assertThrows(SystemException.class, () -> auditionCache.getPostById(99));
+        SystemException repeated = assertThrows(SystemException.class, () -> auditionCache.getPostById(99));
+
+        assertEquals(HttpStatus.NOT_FOUND.value(), repeated.getStatusCode());
+        assertEquals("Resource Not Found", repeated.getTitle());
+        assertEquals("Cannot find post with ID 99", repeated.getDetail());
+        verify(auditionIntegrationClient, times(1)).getPostById(99);
+    }
+
+    @Test
+    void getPostById_AsksUpstreamAgainOnceNotFoundExpires() {
+        AuditionPost post = new AuditionPost(1, 99, "Title", "Body");
+        when(auditionIntegrationClient.getPostById(99)).thenThrow(
+                new SystemException("Cannot find post with ID 99", "Resource Not Found", HttpStatus.NOT_FOUND.value()))
+            .thenReturn(post);
+
+        assertThrows(SystemException.class, () -> auditionCache.getPostById(99));
+        advance(new CacheProperties().getPost().getNotFoundTtl().plusSeconds(1));
+
+        assertSame(post, auditionCache.getPostById(99));
+    }
+
+    @Test
+    void getPostById_RecordsNotFoundMetrics() {
+        when(auditionIntegrationClient.getPostById(99)).thenThrow(
+            new SystemException("Cannot find post with ID 99", "Resource Not Found", HttpStatus.NOT_FOUND.value()));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(SystemException.class, () -> auditionCache.getPostById(99));
+        }
+
+        assertEquals(1.0, meterRegistry.get("audition.cache.not.found").tags("cache", "post", "source", "upstream")
+            .counter().count());
+        assertEquals(2.0, meterRegistry.get("audition.cache.not.found").tags("cache", "post", "source", "cached")
+            .counter().count());
+        assertEquals(1.0, meterRegistry.get("cache.size").tags("cache", "post-not-found").gauge().value());
+    }
+
+    @Test
+    void getCommentsForPost_AnswersRepeatedNotFoundLocally() {
+        when(auditionIntegrationClient.getCommentsForPost(99)).thenThrow(
+            new SystemException("Cannot find post with ID 99", "Resource Not Found", HttpStatus.NOT_FOUND.value()));
+
+        assertThrows(SystemException.class, () -> auditionCache.getCommentsForPost(99));
+        assertThrows(SystemException.class, () -> auditionCache.getCommentsForPost(99));
+
+        verify(auditionIntegrationClient, times(1)).getCommentsForPost(99);
+    }
+
+    @Test
+    void getComments_CachesRequestsWithoutPostId() {
+        when(auditionIntegrationClient.getComments(null)).thenReturn(
+            List.of(new AuditionComment(1, "Name 1", "Email 1", "Comment 1")));
+
+        assertEquals(1, auditionCache.getComments(null).size());
+        assertEquals(1, auditionCache.getComments(null).size());
+        verify(auditionIntegrationClient, times(1)).getComments(null);
+    }
+
+    @Test
+    void getPosts_RecordsHitAndMissMetrics() {
+        when(auditionIntegrationClient.getPosts()).thenReturn(List.of(new AuditionPost(1, 1, "Title1", "Body1")));
+
+        auditionCache.getPosts();
+        auditionCache.getPosts();
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", "posts", "result", "hit")
+            .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", "posts", "result", "miss")
+            .functionCounter().count());
+    }
+
+    @Test
+    void getPosts_RecordsPayloadSize() {
+        when(auditionIntegrationClient.getPosts()).thenReturn(List.of(new AuditionPost(1, 1, "Title1", "Body1")));
+
+        auditionCache.getPosts();
+
+        assertEquals(1, meterRegistry.get("audition.cache.payload.size").tags("cache", "posts")
+            .summary().count());
+        assertTrue(meterRegistry.get("audition.cache.payload.size").tags("cache", "posts")
+            .summary().totalAmount() > 0);
+    }
+
+    @Test
+    void getPostById_ServesLastKnownValueWhenUpstreamUnavailable() {
+        AuditionPost post = new AuditionPost(1, 1, "Title1", "Body1");
+        when(auditionIntegrationClient.getPostById(1)).thenReturn(post).thenThrow(
+            new SystemException("Upstream post calls are suspended", "Upstream Unavailable",
+                HttpStatus.SERVICE_UNAVAILABLE.value()));
+
+        auditionCache.getPostById(1);
+        advance(TTL.plus(STALE_TTL).plusSeconds(1));
+
+        assertSame(post, auditionCache.getPostById(1));
+        assertEquals(1.0, meterRegistry.get("audition.cache.fallbacks").tags("cache", "post").counter().count());
+    }
+
+    @Test
+    void getPostById_DoesNotServeLastKnownValueForNotFound() {
+        AuditionPost post = new AuditionPost(1, 1, "Title1", "Body1");
+        when(auditionIntegrationClient.getPostById(1)).thenReturn(post).thenThrow(
+            new SystemException("Cannot find post with ID 1", "Resource Not Found", HttpStatus.NOT_FOUND.value()));
+
+        auditionCache.getPostById(1);
+        advance(TTL.plus(STALE_TTL).plusSeconds(1));
+
+        assertThrows(SystemException.class, () -> auditionCache.getPostById(1));
+    }
+
+    @Test
+    void getVersionedPostById_KeepsVersionWhileUpstreamReturnsSameInstance() {
+        AuditionPost post = new AuditionPost(1, 1, "Title1", "Body1");
+        when(auditionIntegrationClient.getPostById(1)).thenReturn(post);
+
+        final String version = auditionCache.getVersionedPostById(1).version();
+        advance(TTL.plusSeconds(1));
+        auditionCache.getPostById(1);
+        runPendingTasks();
+
+        assertEquals(version, auditionCache.getVersionedPostById(1).version());
+        advance(TTL.plus(STALE_TTL).plusSeconds(1));
+
+        assertEquals(version, auditionCache.getVersionedPostById(1).version());
+    }
+
+    @Test
+    void getVersionedPostById_ChangesWhenContentIsReplaced() {
+        AuditionPost stale = new AuditionPost(1, 1, "Old", "Body");
+        AuditionPost fresh = new AuditionPost(1, 1, "New", "Body");
+        when(auditionIntegrationClient.getPostById(1)).thenReturn(stale, fresh);
+
+        Versioned<AuditionPost> first = auditionCache.getVersionedPostById(1);
+        advance(TTL.plus(STALE_TTL).plusSeconds(1));
+        Versioned<AuditionPost> second = auditionCache.getVersionedPostById(1);
+
+        assertNotNull(first.version());
+        assertSame(fresh, second.value());
+        assertNotEquals(first.version(), second.version());
+    }
+
+    @Test
+    void getVersionedPostById_EveryCachedEntryKeepsItsVersion() {
+        CacheProperties properties = new CacheProperties();
+        properties.getPost().setFallbackMaxWeight(DataSize.ofBytes(1));
+        auditionCache = new AuditionCache(auditionIntegrationClient, properties,
+            new WebServiceConfiguration().objectMapper(), meterRegistry, nanos::get, pendingTasks::add);
+        for (int id = 1; id <= 3; id++) {
+            when(auditionIntegrationClient.getPostById(id)).thenReturn(new AuditionPost(1, id, "Title", "Body"));
+            auditionCache.getPostById(id);
+        }
+
+        for (int id = 1; id <= 3; id++) {
+            assertNotNull(auditionCache.getVersionedPostById(id).version());
+        }
+    }
+
+    @Test
+    void getVersionedPostById_FallbackKeepsVersionOfLastKnownValue() {
+        AuditionPost post = new AuditionPost(1, 1, "Title1", "Body1");
+        when(auditionIntegrationClient.getPostById(1)).thenReturn(post).thenThrow(
+            new SystemException("Upstream post calls are suspended", "Upstream Unavailable",
+                HttpStatus.SERVICE_UNAVAILABLE.value()));
+
+        String version = auditionCache.getVersionedPostById(1).version();
+        advance(TTL.plus(STALE_TTL).plusSeconds(1));
+
+        assertEquals(version, auditionCache.getVersionedPostById(1).version());
+    }
+
+    @Test
+    void lastKnown_IsBoundedByPayloadWeight() {
+        CacheProperties properties = new CacheProperties();
+        properties.getPost().setFallbackMaxWeight(DataSize.ofBytes(100));
+        auditionCache = new AuditionCache(auditionIntegrationClient, properties,
+            new WebServiceConfiguration().objectMapper(), meterRegistry, nanos::get, pendingTasks::add);
+        for (int id = 1; id <= 3; id++) {
+            when(auditionIntegrationClient.getPostById(id)).thenReturn(new AuditionPost(1, id, "Title", "Body"));
+            auditionCache.getPostById(id);
+        }
+
+        Cache<Integer, Versioned<AuditionPost>> lastKnown = auditionCache.getPostCache().getLastKnown();
+        lastKnown.cleanUp();
+
+        assertTrue(lastKnown.policy().eviction().orElseThrow().weightedSize().orElseThrow() <= 100);
+        assertTrue(lastKnown.estimatedSize() < 3);
+    }
+}
@@ -0,0 +1,34 @@
+package com.audition.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.model.AuditionComment;
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PayloadWeigherTest {
+
+    private final ObjectMapper objectMapper = new WebServiceConfiguration().objectMapper();
+
+    private final PayloadWeigher payloadWeigher = new PayloadWeigher(objectMapper);
+
+    @Test
+    void weigh_ReturnsSerializedSizeOfPost() throws JsonProcessingException {
+        AuditionPost post = new AuditionPost(1, 101, "Title", "Body");
+
+        assertEquals(objectMapper.writeValueAsBytes(post).length, payloadWeigher.weigh(101, post));
+    }
+
+    @Test
+    void weigh_ReturnsSerializedSizeOfCommentList() throws JsonProcessingException {
+        List<AuditionComment> comments = List.of(
+            new AuditionComment(1, "Name 1", "Email 1", "Comment 1"),
+            new AuditionComment(2, "Name 2", "Email 2", "Comment é"));
+
+        assertEquals(objectMapper.writeValueAsBytes(comments).length, payloadWeigher.weigh(1, comments));
+    }
+}
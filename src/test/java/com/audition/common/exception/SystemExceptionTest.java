@@ -0,0 +1,49 @@
+package com.audition.common.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SystemExceptionTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "400",
+        "404",
+        "499"
+    })
+    void clientErrors_DoNotCaptureStackTrace(int status) {
+        SystemException exception = new SystemException("Cannot find post with ID 1", "Resource Not Found", status);
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(status, exception.getStatusCode());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "500",
+        "503",
+        "200"
+    })
+    void otherStatuses_CaptureStackTrace(int status) {
+        SystemException exception = new SystemException("Upstream failed", "Error", status);
+
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "404",
+        "503"
+    })
+    void cause_IsKeptEitherWay(int status) {
+        IllegalStateException cause = new IllegalStateException("upstream");
+
+        SystemException exception = new SystemException("detail", "title", status, cause);
+
+        assertSame(cause, exception.getCause());
+    }
+}
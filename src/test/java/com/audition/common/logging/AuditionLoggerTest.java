@@ -1,13 +1,20 @@
 package com.audition.common.logging;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
@@ -16,8 +23,10 @@ import org.springframework.http.ProblemDetail;
 @ExtendWith(MockitoExtension.class)
 class AuditionLoggerTest {
 
-    @InjectMocks
-    private AuditionLogger auditionLogger;
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final AuditionLogger auditionLogger = new AuditionLogger(
+        new ErrorLogLimiter(Duration.ofSeconds(10), nanos::get));
 
     @Mock
     private Logger mockLogger;
@@ -89,19 +98,102 @@ class AuditionLoggerTest {
     @Test
     void logStandardProblemDetailLogsMessageAndExceptionWhenErrorEnabled() {
         when(mockLogger.isErrorEnabled()).thenReturn(true);
+        ProblemDetail problemDetail = ProblemDetail.forStatus(500);
+        problemDetail.setTitle("Upstream Failed");
+        problemDetail.setDetail("Invalid response");
+        Exception exception = new Exception("Exception message");
+
+        auditionLogger.logStandardProblemDetail(mockLogger, problemDetail, exception);
+        verify(mockLogger).error(eq("Title: {}, Status: {}, Detail: {}"), rendersAs("Upstream Failed"),
+            rendersAs("500"), rendersAs("Invalid response"), eq(exception));
+    }
+
+    @Test
+    void logStandardProblemDetailLogsClientErrorAsWarningWithoutStackTrace() {
+        when(mockLogger.isWarnEnabled()).thenReturn(true);
         ProblemDetail problemDetail = ProblemDetail.forStatus(400);
         problemDetail.setTitle("Bad Request");
         problemDetail.setDetail("Invalid input");
+
+        auditionLogger.logStandardProblemDetail(mockLogger, problemDetail, new Exception("Exception message"));
+        verify(mockLogger).warn(eq("Title: {}, Status: {}, Detail: {}"), rendersAs("Bad Request"),
+            rendersAs("400"), rendersAs("Invalid input"));
+    }
+
+    @Test
+    void logStandardProblemDetailSuppressesRepeatsAndReportsCountInNextWindow() {
+        when(mockLogger.isWarnEnabled()).thenReturn(true);
+        ProblemDetail problemDetail = ProblemDetail.forStatus(404);
+        problemDetail.setTitle("Resource Not Found");
         Exception exception = new Exception("Exception message");
 
+        for (int i = 0; i < 4; i++) {
+            auditionLogger.logStandardProblemDetail(mockLogger, problemDetail, exception);
+        }
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
         auditionLogger.logStandardProblemDetail(mockLogger, problemDetail, exception);
-        verify(mockLogger).error("Title: Bad Request, Status: 400, Detail: Invalid input", exception);
+
+        verify(mockLogger).warn(eq("Title: {}, Status: {}, Detail: {}"), any(), any(), any());
+        verify(mockLogger).warn(eq("Title: {}, Status: {}, Detail: {}, Suppressed: {}"), any(), any(), any(),
+            rendersAs("3"));
+    }
+
+    @Test
+    void logStandardProblemDetailLimitsEachTitleAndStatusSeparately() {
+        when(mockLogger.isErrorEnabled()).thenReturn(true);
+
+        for (int i = 0; i < 3; i++) {
+            ProblemDetail problemDetail = ProblemDetail.forStatus(503);
+            problemDetail.setTitle("Error Fetching Posts");
+            auditionLogger.logStandardProblemDetail(mockLogger, problemDetail,
+                new IllegalStateException("Read timed out", new SocketTimeoutException()));
+        }
+        ProblemDetail otherTitle = ProblemDetail.forStatus(503);
+        otherTitle.setTitle("Error Fetching Comments");
+        auditionLogger.logStandardProblemDetail(mockLogger, otherTitle, new IllegalStateException("Circuit open"));
+        ProblemDetail otherStatus = ProblemDetail.forStatus(500);
+        otherStatus.setTitle("Error Fetching Posts");
+        auditionLogger.logStandardProblemDetail(mockLogger, otherStatus, new IllegalStateException("Circuit open"));
+
+        verify(mockLogger).error(anyString(), rendersAs("Error Fetching Posts"), rendersAs("503"), any(), any());
+        verify(mockLogger).error(anyString(), rendersAs("Error Fetching Comments"), rendersAs("503"), any(), any());
+        verify(mockLogger).error(anyString(), rendersAs("Error Fetching Posts"), rendersAs("500"), any(), any());
+        verify(mockLogger, times(3)).error(anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    void logStandardProblemDetailLogsPlaceholderForMissingDetail() {
+        when(mockLogger.isErrorEnabled()).thenReturn(true);
+        Exception exception = new Exception("Exception message");
+
+        auditionLogger.logStandardProblemDetail(mockLogger, null, exception);
+        verify(mockLogger).error("ProblemDetail is null", exception);
     }
 
     @Test
     void logHttpStatusCodeErrorLogsMessageWhenErrorEnabled() {
         when(mockLogger.isErrorEnabled()).thenReturn(true);
         auditionLogger.logHttpStatusCodeError(mockLogger, "Error message", 500);
-        verify(mockLogger).error("{}\n", "Error Code: 500, Message: Error message");
+        verify(mockLogger).error(eq("Error Code: {}, Message: {}"), rendersAs("500"), rendersAs("Error message"));
+    }
+
+    @Test
+    void logUpstreamCallLogsLatencyInMillisWhenDebugEnabled() {
+        when(mockLogger.isDebugEnabled()).thenReturn(true);
+        auditionLogger.logUpstreamCall(mockLogger, "posts", "SUCCESS", 12_500_000L);
+        verify(mockLogger).debug(eq("Upstream {} finished with {} in {} ms"), rendersAs("posts"), rendersAs("SUCCESS"),
+            rendersAs("12"));
+    }
+
+    @Test
+    void logUpstreamCallDoesNotLogWhenDebugDisabled() {
+        when(mockLogger.isDebugEnabled()).thenReturn(false);
+        auditionLogger.logUpstreamCall(mockLogger, "posts", "SUCCESS", 12_500_000L);
+        verify(mockLogger).isDebugEnabled();
+        verifyNoMoreInteractions(mockLogger);
+    }
+
+    private static Object rendersAs(String text) {
+        return argThat(argument -> text.equals(String.valueOf(argument)));
     }
 }
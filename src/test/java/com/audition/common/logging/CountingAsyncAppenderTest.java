@@ -0,0 +1,83 @@
+package com.audition.common.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CountingAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final CountDownLatch blocked = new CountDownLatch(1);
+
+    private CountingAsyncAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        AppenderBase<ILoggingEvent> slow = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                blocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        slow.setContext(context);
+        slow.start();
+
+        appender = new CountingAsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(2);
+        appender.setDiscardingThreshold(0);
+        appender.addAppender(slow);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        appender.stop();
+    }
+
+    private LoggingEvent event(Level level) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLevel(level);
+        event.setMessage("message");
+        event.setLoggerName("test");
+        return event;
+    }
+
+    @Test
+    void doAppend_QueueFull_DropsWithoutBlockingAndCounts() throws InterruptedException {
+        appender.doAppend(event(Level.INFO));
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 5; i++) {
+            appender.doAppend(event(Level.ERROR));
+        }
+
+        assertEquals(3, appender.getDroppedCount());
+    }
+
+    @Test
+    void doAppend_QueueHasRoom_DropsNothing() {
+        appender.doAppend(event(Level.INFO));
+
+        assertEquals(0, appender.getDroppedCount());
+    }
+}
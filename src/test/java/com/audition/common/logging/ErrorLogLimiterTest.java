@@ -0,0 +1,45 @@
+package com.audition.common.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ErrorLogLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final ErrorLogLimiter limiter = new ErrorLogLimiter(Duration.ofSeconds(10), nanos::get);
+
+    @Test
+    void tryAcquire_FirstEventPasses() {
+        assertEquals(0, limiter.tryAcquire("Resource Not Found|404"));
+    }
+
+    @Test
+    void tryAcquire_RepeatsWithinWindowAreSuppressed() {
+        limiter.tryAcquire("Resource Not Found|404");
+        nanos.addAndGet(Duration.ofSeconds(9).toNanos());
+
+        assertEquals(ErrorLogLimiter.SUPPRESSED, limiter.tryAcquire("Resource Not Found|404"));
+    }
+
+    @Test
+    void tryAcquire_NextWindowReportsSuppressedCount() {
+        limiter.tryAcquire("Resource Not Found|404");
+        limiter.tryAcquire("Resource Not Found|404");
+        limiter.tryAcquire("Resource Not Found|404");
+        nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertEquals(2, limiter.tryAcquire("Resource Not Found|404"));
+        assertEquals(ErrorLogLimiter.SUPPRESSED, limiter.tryAcquire("Resource Not Found|404"));
+    }
+
+    @Test
+    void tryAcquire_KeysAreLimitedIndependently() {
+        limiter.tryAcquire("Resource Not Found|404");
+
+        assertEquals(0, limiter.tryAcquire("Bad Request|400"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.audition.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.audition.configuration.ConnectionProperties.ClientEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+class HttpClientConfigurationTest {
+
+    private final HttpClientConfiguration httpClientConfiguration = new HttpClientConfiguration();
+
+    private ConnectionProperties properties;
+
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConnectionProperties();
+        properties.setMaxTotal(20);
+        properties.setMaxPerRoute(5);
+        connectionManager = httpClientConfiguration.connectionManager(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.close();
+    }
+
+    @Test
+    void connectionManager_AppliesPoolLimits() {
+        assertEquals(20, connectionManager.getMaxTotal());
+        assertEquals(5, connectionManager.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void clientHttpRequestFactory_UsesPooledClientForApacheEngine() throws IOException {
+        try (CloseableHttpClient httpClient = httpClientConfiguration.httpClient(connectionManager, properties)) {
+            ObjectProvider<CloseableHttpClient> provider = mock(ObjectProvider.class);
+            when(provider.getObject()).thenReturn(httpClient);
+
+            ClientHttpRequestFactory requestFactory = httpClientConfiguration.clientHttpRequestFactory(properties,
+                provider);
+
+            HttpComponentsClientHttpRequestFactory httpComponents = assertInstanceOf(
+                HttpComponentsClientHttpRequestFactory.class, requestFactory);
+            assertEquals(httpClient, httpComponents.getHttpClient());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void clientHttpRequestFactory_UsesSimpleFactoryForSimpleEngine() {
+        properties.setEngine(ClientEngine.SIMPLE);
+        ObjectProvider<CloseableHttpClient> provider = mock(ObjectProvider.class);
+
+        ClientHttpRequestFactory requestFactory = httpClientConfiguration.clientHttpRequestFactory(properties, provider);
+
+        assertInstanceOf(SimpleClientHttpRequestFactory.class, requestFactory);
+        verifyNoInteractions(provider);
+    }
+
+    @Test
+    void connectionPoolMetrics_RegistersPoolGauges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        httpClientConfiguration.connectionPoolMetrics(connectionManager).bindTo(registry);
+
+        assertEquals(20.0, registry.get("httpcomponents.httpclient.pool.total.max")
+            .tag("httpclient", "upstream").gauge().value());
+        assertEquals(0.0, registry.get("httpcomponents.httpclient.pool.total.connections")
+            .tag("state", "leased").gauge().value());
+        assertEquals(0.0, registry.get("httpcomponents.httpclient.pool.total.pending").gauge().value());
+        assertNotNull(registry.get("httpcomponents.httpclient.pool.route.max.default").gauge());
+    }
+}
@@ -1,24 +1,36 @@
 package com.audition.configuration;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.audition.common.logging.AuditionLogger;
 import java.io.IOException;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
 
 @ExtendWith(MockitoExtension.class)
 class LoggingInterceptorTest {
@@ -35,11 +47,18 @@ class LoggingInterceptorTest {
     @Mock
     private ClientHttpResponse clientHttpResponse;
 
-    @InjectMocks
+    private UpstreamLoggingProperties properties;
+
     private LoggingInterceptor loggingInterceptor;
 
     private final byte[] body = "request body".getBytes(StandardCharsets.UTF_8);
 
+    @BeforeEach
+    void setUp() {
+        properties = new UpstreamLoggingProperties();
+        loggingInterceptor = new LoggingInterceptor(auditionLogger, properties);
+    }
+
     @Test
     void interceptLogsRequestAndResponse() throws IOException {
         when(execution.execute(httpRequest, body)).thenReturn(clientHttpResponse);
@@ -48,7 +67,7 @@ class LoggingInterceptorTest {
         ClientHttpResponse response = loggingInterceptor.intercept(httpRequest, body, execution);
 
         verify(auditionLogger).info(any(), eq("Request URI: {}, Method: {}, Headers: {}, Body: {}"),
-            any(), any(), any(), eq("request body"));
+            any(), any(), any(), argThat(arg -> "request body".equals(arg.toString())));
         verify(auditionLogger).info(any(), eq("Response Status Code: {}, Headers: {}"),
             eq(HttpStatus.OK), any());
         assertEquals(clientHttpResponse, response);
@@ -60,4 +79,81 @@ class LoggingInterceptorTest {
 
         assertThrows(IOException.class, () -> loggingInterceptor.intercept(httpRequest, body, execution));
     }
+
+    @Test
+    void interceptStreamsResponseWhenBodyLoggingDisabled() throws IOException {
+        properties.setBodySampleRate(1.0);
+        when(execution.execute(httpRequest, body)).thenReturn(clientHttpResponse);
+
+        ClientHttpResponse response = loggingInterceptor.intercept(httpRequest, body, execution);
+
+        assertEquals(clientHttpResponse, response);
+        verify(clientHttpResponse, never()).getBody();
+    }
+
+    @Test
+    void interceptBuffersAndLogsResponseBodyWhenSampled() throws IOException {
+        properties.setBodyEnabled(true);
+        properties.setBodySampleRate(1.0);
+        byte[] responseBody = "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8);
+        when(execution.execute(httpRequest, body)).thenReturn(clientHttpResponse);
+        when(clientHttpResponse.getBody()).thenReturn(new ByteArrayInputStream(responseBody));
+
+        ClientHttpResponse response = loggingInterceptor.intercept(httpRequest, body, execution);
+
+        assertInstanceOf(BufferedClientHttpResponse.class, response);
+        assertArrayEquals(responseBody, StreamUtils.copyToByteArray(response.getBody()));
+        verify(auditionLogger).info(any(), eq("Response Body: {}"), eq("[{\"id\":1}]"));
+    }
+
+    @Test
+    void interceptSkipsBodyBufferingWhenNotSampled() throws IOException {
+        properties.setBodyEnabled(true);
+        properties.setBodySampleRate(0.0);
+        when(execution.execute(httpRequest, body)).thenReturn(clientHttpResponse);
+
+        ClientHttpResponse response = loggingInterceptor.intercept(httpRequest, body, execution);
+
+        assertEquals(clientHttpResponse, response);
+        verify(clientHttpResponse, never()).getBody();
+    }
+
+    @Test
+    void interceptSkipsLoggingForUnsampledRoute() throws IOException {
+        properties.setRoutes(Map.of("/posts", 0.0));
+        when(httpRequest.getURI()).thenReturn(URI.create("http://localhost/posts/1"));
+        when(execution.execute(httpRequest, body)).thenReturn(clientHttpResponse);
+
+        ClientHttpResponse response = loggingInterceptor.intercept(httpRequest, body, execution);
+
+        assertEquals(clientHttpResponse, response);
+        verifyNoInteractions(auditionLogger);
+    }
+
+    @Test
+    void interceptLogsOnlyAllowedHeaders() throws IOException {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.add(HttpHeaders.ACCEPT, "application/json");
+        requestHeaders.add(HttpHeaders.AUTHORIZATION, "Bearer secret");
+        when(httpRequest.getHeaders()).thenReturn(requestHeaders);
+        when(execution.execute(httpRequest, body)).thenReturn(clientHttpResponse);
+
+        loggingInterceptor.intercept(httpRequest, body, execution);
+
+        verify(auditionLogger).info(any(), eq("Request URI: {}, Method: {}, Headers: {}, Body: {}"),
+            any(), any(), argThat(arg -> "{Accept=[application/json]}".equals(arg.toString())), any());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "/posts, 0.5",
+        "/posts/1/comments, 0.25",
+        "/comments, 1.0",
+        ", 1.0"
+    })
+    void sampleRateForUsesLongestMatchingRoute(String path, double expectedRate) {
+        properties.setRoutes(Map.of("/posts", 0.5, "/posts/1/comments", 0.25));
+
+        assertEquals(expectedRate, properties.sampleRateFor(path));
+    }
 }
@@ -0,0 +1,72 @@
+package com.audition.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class PlatformThreadConfigurationTest {
+
+    private final PlatformThreadConfiguration platformThreadConfiguration = new PlatformThreadConfiguration();
+
+    private final AtomicBoolean decorated = new AtomicBoolean();
+
+    private final TaskExecutorBuilder taskExecutorBuilder = new TaskExecutorBuilder().taskDecorator(task -> () -> {
+        decorated.set(true);
+        task.run();
+    });
+
+    @Test
+    void cacheRefreshExecutor_IsADecoratedPoolOfItsOwn() throws InterruptedException {
+        ThreadPoolTaskExecutor executor = platformThreadConfiguration.cacheRefreshExecutor(taskExecutorBuilder,
+            new ExecutorProperties());
+        executor.initialize();
+        CountDownLatch ran = new CountDownLatch(1);
+
+        try {
+            executor.execute(ran::countDown);
+
+            assertTrue(ran.await(5, TimeUnit.SECONDS));
+            assertTrue(decorated.get());
+            assertEquals(2, executor.getCorePoolSize());
+            assertEquals(4, executor.getMaxPoolSize());
+            assertEquals("audition-refresh-", executor.getThreadNamePrefix());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void upstreamHedgeExecutor_RejectsInsteadOfQueueing() {
+        ExecutorProperties executorProperties = new ExecutorProperties();
+        executorProperties.setHedge(new ExecutorProperties.PoolSettings(1, 1, 0));
+        ThreadPoolTaskExecutor executor = platformThreadConfiguration.upstreamHedgeExecutor(taskExecutorBuilder,
+            executorProperties);
+        executor.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            executor.execute(() -> await(release));
+
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
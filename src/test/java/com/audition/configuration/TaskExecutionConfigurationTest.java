@@ -0,0 +1,43 @@
+package com.audition.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+class TaskExecutionConfigurationTest {
+
+    private final TaskExecutionConfiguration taskExecutionConfiguration = new TaskExecutionConfiguration();
+
+    private final AtomicBoolean decorated = new AtomicBoolean();
+
+    @Test
+    void upstreamHedgeScheduler_DecoratesOnScheduleAndDropsCancelledHedges() throws InterruptedException {
+        ThreadPoolTaskScheduler scheduler = (ThreadPoolTaskScheduler) taskExecutionConfiguration
+            .upstreamHedgeScheduler(task -> {
+                decorated.set(true);
+                return task;
+            });
+        scheduler.initialize();
+        CountDownLatch ran = new CountDownLatch(1);
+
+        try {
+            ScheduledFuture<?> cancelled = scheduler.schedule(() -> { }, Instant.now().plus(Duration.ofHours(1)));
+            assertTrue(decorated.get());
+            cancelled.cancel(false);
+            scheduler.schedule(ran::countDown, Instant.now());
+
+            assertTrue(ran.await(5, TimeUnit.SECONDS));
+            assertTrue(scheduler.getScheduledThreadPoolExecutor().getQueue().isEmpty());
+            assertTrue(scheduler.getThreadNamePrefix().startsWith("audition-hedge-timer-"));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.audition.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+class VirtualThreadConfigurationTest {
+
+    private final VirtualThreadConfiguration virtualThreadConfiguration = new VirtualThreadConfiguration();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final AtomicBoolean decorated = new AtomicBoolean();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void virtualThreadExecutor_FailsOnRuntimesWithoutVirtualThreads() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            virtualThreadConfiguration::virtualThreadExecutor);
+        assertTrue(exception.getMessage().startsWith("Virtual threads require Java 21"));
+    }
+
+    @Test
+    void virtualThreadExecutor_RunsTasksOnSupportedRuntimes() throws InterruptedException {
+        assumeTrue(VirtualThreads.isSupported());
+        ExecutorService virtualThreadExecutor = (ExecutorService) virtualThreadConfiguration.virtualThreadExecutor();
+        CountDownLatch ran = new CountDownLatch(1);
+
+        virtualThreadExecutor.execute(ran::countDown);
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        virtualThreadExecutor.shutdown();
+    }
+
+    @Test
+    void protocolHandlerCustomizer_HandsRequestProcessingToExecutor() {
+        ProtocolHandler protocolHandler = mock(ProtocolHandler.class);
+
+        virtualThreadConfiguration.virtualThreadProtocolHandlerCustomizer(executor).customize(protocolHandler);
+
+        verify(protocolHandler).setExecutor(executor);
+    }
+
+    @Test
+    void applicationTaskExecutor_AppliesTaskDecorator() throws InterruptedException {
+        assertRunsDecorated(virtualThreadConfiguration.applicationTaskExecutor(executor, decoratorProvider()));
+    }
+
+    @Test
+    void dedicatedExecutors_RunDecoratedOnTheVirtualThreadExecutor() throws InterruptedException {
+        assertRunsDecorated(virtualThreadConfiguration.fanOutExecutor(executor, decoratorProvider()));
+        assertRunsDecorated(virtualThreadConfiguration.cacheRefreshExecutor(executor, decoratorProvider()));
+        assertRunsDecorated(virtualThreadConfiguration.upstreamHedgeExecutor(executor, decoratorProvider()));
+    }
+
+    private ObjectProvider<TaskDecorator> decoratorProvider() {
+        TaskDecorator taskDecorator = runnable -> () -> {
+            decorated.set(true);
+            runnable.run();
+        };
+        return new StaticListableBeanFactory(Map.of("traceContextTaskDecorator", taskDecorator))
+            .getBeanProvider(TaskDecorator.class);
+    }
+
+    private void assertRunsDecorated(TaskExecutorAdapter taskExecutor) throws InterruptedException {
+        decorated.set(false);
+        CountDownLatch ran = new CountDownLatch(1);
+
+        taskExecutor.execute(ran::countDown);
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertTrue(decorated.get());
+    }
+}
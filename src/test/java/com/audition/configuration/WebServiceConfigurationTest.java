@@ -17,9 +17,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.web.client.RestTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +36,8 @@ class WebServiceConfigurationTest {
 
     private final ObjectMapper objectMapper = new WebServiceConfiguration().objectMapper();
 
+    private final SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+
     @Test
     void testObjectMapper_SerializesWithoutNulls() throws JsonProcessingException {
         AuditionPost post = new AuditionPost(1, 101, "Test Title", null);
@@ -73,7 +78,8 @@ class WebServiceConfigurationTest {
 
     @Test
     void testRestTemplate_UsesCustomObjectMapper() {
-        RestTemplate restTemplate = webServiceConfiguration.restTemplate(objectMapper, loggingInterceptor);
+        RestTemplate restTemplate = webServiceConfiguration.restTemplate(objectMapper, loggingInterceptor,
+            requestFactory);
 
         List<HttpMessageConverter<?>> messageConverters = restTemplate.getMessageConverters();
         boolean containsCustomMapper = messageConverters.stream()
@@ -86,9 +92,23 @@ class WebServiceConfigurationTest {
 
     @Test
     void testRestTemplate_HasLoggingInterceptor() {
-        RestTemplate restTemplate = webServiceConfiguration.restTemplate(objectMapper, loggingInterceptor);
+        RestTemplate restTemplate = webServiceConfiguration.restTemplate(objectMapper, loggingInterceptor,
+            requestFactory);
 
         List<ClientHttpRequestInterceptor> interceptors = restTemplate.getInterceptors();
         assertTrue(interceptors.contains(loggingInterceptor), "RestTemplate should contain LoggingInterceptor.");
     }
+
+    @Test
+    void testRestTemplate_PassesNotFoundThroughAsAResponse() throws IOException {
+        RestTemplate restTemplate = webServiceConfiguration.restTemplate(objectMapper, loggingInterceptor,
+            requestFactory);
+
+        assertFalse(restTemplate.getErrorHandler().hasError(new MockClientHttpResponse(new byte[0],
+            HttpStatus.NOT_FOUND)));
+        assertTrue(restTemplate.getErrorHandler().hasError(new MockClientHttpResponse(new byte[0],
+            HttpStatus.BAD_REQUEST)));
+        assertTrue(restTemplate.getErrorHandler().hasError(new MockClientHttpResponse(new byte[0],
+            HttpStatus.BAD_GATEWAY)));
+    }
 }
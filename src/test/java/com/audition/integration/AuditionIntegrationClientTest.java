@@ -2,24 +2,46 @@ package com.audition.integration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.audition.common.exception.SystemException;
+import com.audition.configuration.ConnectionProperties;
 import com.audition.model.AuditionComment;
 import com.audition.model.AuditionPost;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
 class AuditionIntegrationClientTest {
@@ -30,22 +52,55 @@ class AuditionIntegrationClientTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private ObjectProvider<ReactiveAuditionIntegrationClient> reactiveClient;
+
+    @Spy
+    private UpstreamProperties upstreamProperties = new UpstreamProperties();
+
+    @Spy
+    private UpstreamGuard upstreamGuard = new UpstreamGuard(CircuitBreakerRegistry.ofDefaults(),
+        BulkheadRegistry.ofDefaults(), new SimpleMeterRegistry());
+
+    @Spy
+    private UpstreamMetrics upstreamMetrics = new UpstreamMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private UpstreamRetry upstreamRetry = new UpstreamRetry(upstreamProperties, new ConnectionProperties(),
+        upstreamMetrics, new SimpleMeterRegistry(), Runnable::run, new ConcurrentTaskScheduler());
+
+    @Spy
+    private UpstreamValidators upstreamValidators = new UpstreamValidators(upstreamProperties,
+        new SimpleMeterRegistry());
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(new SimpleMeterRegistry());
+
     @InjectMocks
     private AuditionIntegrationClient auditionIntegrationClient;
 
     @Test
     void getPosts_Success() {
         AuditionPost[] postsArray = {new AuditionPost(), new AuditionPost()};
-        when(restTemplate.getForObject(POSTS_URL, AuditionPost[].class)).thenReturn(postsArray);
+        whenGet(POSTS_URL, AuditionPost[].class).thenReturn(ResponseEntity.ok(postsArray));
 
         List<AuditionPost> posts = auditionIntegrationClient.getPosts();
         assertNotNull(posts);
         assertEquals(2, posts.size());
     }
 
+    @Test
+    void getPosts_UsesConfiguredBaseUrl() {
+        upstreamProperties.setBaseUrl("http://localhost:8089");
+        whenGet("http://localhost:8089/posts", AuditionPost[].class)
+            .thenReturn(ResponseEntity.ok(new AuditionPost[] {new AuditionPost()}));
+
+        assertEquals(1, auditionIntegrationClient.getPosts().size());
+    }
+
     @Test
     void getPosts_EmptyResponse() {
-        when(restTemplate.getForObject(POSTS_URL, AuditionPost[].class)).thenReturn(null);
+        whenGet(POSTS_URL, AuditionPost[].class).thenReturn(ResponseEntity.ok().build());
 
         List<AuditionPost> posts = auditionIntegrationClient.getPosts();
         assertNotNull(posts);
@@ -54,7 +109,7 @@ class AuditionIntegrationClientTest {
 
     @Test
     void getPosts_RestClientException() {
-        when(restTemplate.getForObject(POSTS_URL, AuditionPost[].class))
+        whenGet(POSTS_URL, AuditionPost[].class)
             .thenThrow(new RestClientException("Error"));
 
         SystemException exception = assertThrows(SystemException.class, () -> auditionIntegrationClient.getPosts());
@@ -63,10 +118,30 @@ class AuditionIntegrationClientTest {
         assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getStatusCode());
     }
 
+    @Test
+    void getPostsPage_RequestsUpstreamPage() {
+        AuditionPost[] postsArray = {new AuditionPost(), new AuditionPost()};
+        whenGet(POSTS_URL + "?_page=2&_limit=2", AuditionPost[].class).thenReturn(ResponseEntity.ok(postsArray));
+
+        List<AuditionPost> posts = auditionIntegrationClient.getPostsPage(2, 2);
+        assertEquals(2, posts.size());
+    }
+
+    @Test
+    void getPostsPage_RestClientException() {
+        whenGet(POSTS_URL + "?_page=1&_limit=10", AuditionPost[].class)
+            .thenThrow(new RestClientException("Error"));
+
+        SystemException exception = assertThrows(SystemException.class,
+            () -> auditionIntegrationClient.getPostsPage(1, 10));
+        assertEquals("Error Fetching Posts", exception.getTitle());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getStatusCode());
+    }
+
     @Test
     void getPostById_Success() {
         AuditionPost post = new AuditionPost();
-        when(restTemplate.getForObject(POSTS_URL + "/1", AuditionPost.class)).thenReturn(post);
+        whenGet(POSTS_URL + "/1", AuditionPost.class).thenReturn(ResponseEntity.ok(post));
 
         AuditionPost result = auditionIntegrationClient.getPostById(1);
         assertNotNull(result);
@@ -75,19 +150,20 @@ class AuditionIntegrationClientTest {
 
     @Test
     void getPostById_NotFound() {
-        when(restTemplate.getForObject(POSTS_URL + "/1", AuditionPost.class))
-            .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        whenGet(POSTS_URL + "/1", AuditionPost.class).thenReturn(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
 
         SystemException exception = assertThrows(SystemException.class,
             () -> auditionIntegrationClient.getPostById(1));
         assertEquals("Cannot find post with ID 1", exception.getMessage());
         assertEquals("Resource Not Found", exception.getTitle());
         assertEquals(HttpStatus.NOT_FOUND.value(), exception.getStatusCode());
+        assertNull(exception.getCause());
+        assertEquals(0, exception.getStackTrace().length);
     }
 
     @Test
     void getPostById_ClientError() {
-        when(restTemplate.getForObject(POSTS_URL + "/1", AuditionPost.class))
+        whenGet(POSTS_URL + "/1", AuditionPost.class)
             .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST, "Bad Request"));
 
         SystemException exception = assertThrows(SystemException.class,
@@ -99,7 +175,7 @@ class AuditionIntegrationClientTest {
 
     @Test
     void getPostById_RestClientException() {
-        when(restTemplate.getForObject(POSTS_URL + "/1", AuditionPost.class))
+        whenGet(POSTS_URL + "/1", AuditionPost.class)
             .thenThrow(new RestClientException("Service Unavailable"));
 
         SystemException exception = assertThrows(SystemException.class,
@@ -116,8 +192,8 @@ class AuditionIntegrationClientTest {
             new AuditionComment(2, "Name 2", "Email 2", "Comment 2"),
         };
 
-        when(restTemplate.getForObject(POSTS_URL + "/1/comments", AuditionComment[].class, 1))
-            .thenReturn(comments);
+        whenGet(POSTS_URL + "/1/comments", AuditionComment[].class)
+            .thenReturn(ResponseEntity.ok(comments));
 
         List<AuditionComment> result = auditionIntegrationClient.getCommentsForPost(1);
         assertEquals(2, result.size());
@@ -127,8 +203,8 @@ class AuditionIntegrationClientTest {
 
     @Test
     void getCommentsForPost_NotFound() {
-        when(restTemplate.getForObject(POSTS_URL + "/1/comments", AuditionComment[].class, 1))
-            .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        whenGet(POSTS_URL + "/1/comments", AuditionComment[].class)
+            .thenReturn(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
 
         SystemException exception = assertThrows(SystemException.class,
             () -> auditionIntegrationClient.getCommentsForPost(1));
@@ -140,7 +216,7 @@ class AuditionIntegrationClientTest {
 
     @Test
     void getCommentsForPost_ClientError() {
-        when(restTemplate.getForObject(POSTS_URL + "/1/comments", AuditionComment[].class, 1))
+        whenGet(POSTS_URL + "/1/comments", AuditionComment[].class)
             .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST, "Bad Request"));
 
         SystemException exception = assertThrows(SystemException.class,
@@ -153,7 +229,7 @@ class AuditionIntegrationClientTest {
 
     @Test
     void getCommentsForPost_RestClientException() {
-        when(restTemplate.getForObject(POSTS_URL + "/1/comments", AuditionComment[].class, 1))
+        whenGet(POSTS_URL + "/1/comments", AuditionComment[].class)
             .thenThrow(new RestClientException("Service Unavailable"));
 
         SystemException exception = assertThrows(SystemException.class,
@@ -166,8 +242,8 @@ class AuditionIntegrationClientTest {
 
     @Test
     void getCommentsForPost_EmptyResponse() {
-        when(restTemplate.getForObject(POSTS_URL + "/1/comments", AuditionComment[].class, 1))
-            .thenReturn(null);
+        whenGet(POSTS_URL + "/1/comments", AuditionComment[].class)
+            .thenReturn(ResponseEntity.ok().build());
 
         List<AuditionComment> result = auditionIntegrationClient.getCommentsForPost(1);
         assertTrue(result.isEmpty());
@@ -180,8 +256,8 @@ class AuditionIntegrationClientTest {
             new AuditionComment(2, "Name 2", "Email 2", "Comment 2"),
         };
 
-        when(restTemplate.getForObject(COMMENTS_URL + "?postId=1", AuditionComment[].class))
-            .thenReturn(comments);
+        whenGet(COMMENTS_URL + "?postId=1", AuditionComment[].class)
+            .thenReturn(ResponseEntity.ok(comments));
 
         List<AuditionComment> result = auditionIntegrationClient.getComments(1);
         assertEquals(2, result.size());
@@ -196,8 +272,8 @@ class AuditionIntegrationClientTest {
             new AuditionComment(2, "Name 2", "Email 2", "Comment 2"),
         };
 
-        when(restTemplate.getForObject(COMMENTS_URL, AuditionComment[].class))
-            .thenReturn(comments);
+        whenGet(COMMENTS_URL, AuditionComment[].class)
+            .thenReturn(ResponseEntity.ok(comments));
 
         List<AuditionComment> result = auditionIntegrationClient.getComments(null);
         assertEquals(2, result.size());
@@ -207,8 +283,8 @@ class AuditionIntegrationClientTest {
 
     @Test
     void getComments_WithPostId_NotFound() {
-        when(restTemplate.getForObject(COMMENTS_URL + "?postId=1", AuditionComment[].class))
-            .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        whenGet(COMMENTS_URL + "?postId=1", AuditionComment[].class)
+            .thenReturn(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
 
         SystemException exception = assertThrows(SystemException.class,
             () -> auditionIntegrationClient.getComments(1));
@@ -219,7 +295,7 @@ class AuditionIntegrationClientTest {
 
     @Test
     void getComments_WithPostId_ClientError() {
-        when(restTemplate.getForObject(COMMENTS_URL + "?postId=1", AuditionComment[].class))
+        whenGet(COMMENTS_URL + "?postId=1", AuditionComment[].class)
             .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST, "Bad Request"));
 
         SystemException exception = assertThrows(SystemException.class,
@@ -231,7 +307,7 @@ class AuditionIntegrationClientTest {
 
     @Test
     void getComments_WithPostId_RestClientException() {
-        when(restTemplate.getForObject(COMMENTS_URL + "?postId=1", AuditionComment[].class))
+        whenGet(COMMENTS_URL + "?postId=1", AuditionComment[].class)
             .thenThrow(new RestClientException("Service Unavailable"));
 
         SystemException exception = assertThrows(SystemException.class,
@@ -243,11 +319,120 @@ class AuditionIntegrationClientTest {
 
     @Test
     void getComments_WithPostId_EmptyResponse() {
-        when(restTemplate.getForObject(COMMENTS_URL + "?postId=1", AuditionComment[].class))
-            .thenReturn(null);
+        whenGet(COMMENTS_URL + "?postId=1", AuditionComment[].class)
+            .thenReturn(ResponseEntity.ok().build());
 
         List<AuditionComment> result = auditionIntegrationClient.getComments(1);
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void getPosts_ReusesParsedResponseWhenNotModified() {
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag("\"v1\"");
+        whenGet(POSTS_URL, AuditionPost[].class)
+            .thenReturn(ResponseEntity.ok().headers(validators).body(new AuditionPost[] {new AuditionPost()}))
+            .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        List<AuditionPost> first = auditionIntegrationClient.getPosts();
+        List<AuditionPost> second = auditionIntegrationClient.getPosts();
+
+        assertSame(first, second);
+        ArgumentCaptor<HttpEntity<?>> requests = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(2)).httpEntityCallback(requests.capture(), eq(AuditionPost[].class));
+        assertTrue(requests.getAllValues().get(0).getHeaders().getIfNoneMatch().isEmpty());
+        assertEquals(List.of("\"v1\""), requests.getAllValues().get(1).getHeaders().getIfNoneMatch());
+    }
+
+    @Test
+    void getPostById_SendsIfModifiedSinceWhenOnlyLastModifiedIsKnown() {
+        HttpHeaders validators = new HttpHeaders();
+        validators.setLastModified(1_700_000_000_000L);
+        AuditionPost post = new AuditionPost(1, 1, "Title1", "Body1");
+        whenGet(POSTS_URL + "/1", AuditionPost.class)
+            .thenReturn(ResponseEntity.ok().headers(validators).body(post))
+            .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        auditionIntegrationClient.getPostById(1);
+
+        assertSame(post, auditionIntegrationClient.getPostById(1));
+        assertEquals(1_700_000_000_000L, upstreamValidators.conditionalHeaders(POSTS_URL + "/1").getIfModifiedSince());
+    }
+
+    @Test
+    void getPosts_UnaskedNotModifiedIsRetriedOnceWithoutValidators() {
+        whenGet(POSTS_URL, AuditionPost[].class)
+            .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build())
+            .thenReturn(ResponseEntity.ok(new AuditionPost[] {new AuditionPost()}));
+
+        assertEquals(1, auditionIntegrationClient.getPosts().size());
+        verify(restTemplate, times(2)).execute(eq(POSTS_URL), eq(HttpMethod.GET), any(), any());
+    }
+
+    @Test
+    void getPosts_RepeatedNotModifiedStopsAfterOneRetry() {
+        whenGet(POSTS_URL, AuditionPost[].class).thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        SystemException exception = assertThrows(SystemException.class, () -> auditionIntegrationClient.getPosts());
+
+        assertEquals("Unexpected Upstream Response", exception.getTitle());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getStatusCode());
+        verify(restTemplate, times(2)).execute(eq(POSTS_URL), eq(HttpMethod.GET), any(), any());
+    }
+
+    @Test
+    void getPostById_DoesNotSendValidatorsOnceTheParsedValueIsGone() {
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag("\"v1\"");
+        whenGet(POSTS_URL + "/1", AuditionPost.class)
+            .thenReturn(ResponseEntity.ok().headers(validators).body(new AuditionPost()));
+
+        auditionIntegrationClient.getPostById(1);
+        upstreamValidators.getEntries().getIfPresent(POSTS_URL + "/1").value().clear();
+
+        assertTrue(upstreamValidators.conditionalHeaders(POSTS_URL + "/1").isEmpty());
+    }
+
+    // the stubbed template hands back the entity the real response extractor would have produced
+    @Test
+    void getPostById_UsesReactiveClientWhenConfigured() {
+        ReactiveAuditionIntegrationClient reactive = mock(ReactiveAuditionIntegrationClient.class);
+        AuditionPost post = new AuditionPost();
+        when(reactiveClient.getIfAvailable()).thenReturn(reactive);
+        when(reactive.exchange(eq(POSTS_URL + "/1"), any(), eq(AuditionPost.class)))
+            .thenReturn(Mono.just(ResponseEntity.ok(post)));
+
+        assertSame(post, auditionIntegrationClient.getPostById(1));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void getPostById_ReactiveClientNotFound() {
+        ReactiveAuditionIntegrationClient reactive = mock(ReactiveAuditionIntegrationClient.class);
+        when(reactiveClient.getIfAvailable()).thenReturn(reactive);
+        when(reactive.exchange(eq(POSTS_URL + "/1"), any(), eq(AuditionPost.class)))
+            .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).build()));
+
+        SystemException exception = assertThrows(SystemException.class,
+            () -> auditionIntegrationClient.getPostById(1));
+        assertEquals("Resource Not Found", exception.getTitle());
+        assertEquals(HttpStatus.NOT_FOUND.value(), exception.getStatusCode());
+    }
+
+    @Test
+    void getComments_ReactiveClientErrorsMapLikeRestTemplate() {
+        ReactiveAuditionIntegrationClient reactive = mock(ReactiveAuditionIntegrationClient.class);
+        when(reactiveClient.getIfAvailable()).thenReturn(reactive);
+        when(reactive.exchange(eq(COMMENTS_URL), any(), eq(AuditionComment[].class)))
+            .thenReturn(Mono.error(new RestClientException("Error")));
+
+        SystemException exception = assertThrows(SystemException.class,
+            () -> auditionIntegrationClient.getComments(null));
+        assertEquals("Error Fetching Comments", exception.getTitle());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getStatusCode());
+    }
+
+    private <T> OngoingStubbing<ResponseEntity<T>> whenGet(final String url, final Class<T> type) {
+        return when(restTemplate.<ResponseEntity<T>>execute(eq(url), eq(HttpMethod.GET), any(), any()));
+    }
 }
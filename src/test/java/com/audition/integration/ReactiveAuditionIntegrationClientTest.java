@@ -0,0 +1,125 @@
+package com.audition.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.audition.model.AuditionPost;
+import io.netty.handler.timeout.ReadTimeoutException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+class ReactiveAuditionIntegrationClientTest {
+
+    private static final String POST_URL = "http://localhost:8089/posts/1";
+
+    private final AtomicReference<ClientRequest> request = new AtomicReference<>();
+
+    @Test
+    void exchange_ReturnsDecodedEntity() {
+        ResponseEntity<AuditionPost> response = respondingWith(HttpStatus.OK,
+            "{\"userId\":1,\"id\":1,\"title\":\"Title1\",\"body\":\"Body1\"}")
+            .exchange(POST_URL, HttpHeaders.EMPTY, AuditionPost.class).block();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Title1", response.getBody().getTitle());
+        assertEquals(HttpMethod.GET, request.get().method());
+        assertEquals(URI.create(POST_URL), request.get().url());
+    }
+
+    @Test
+    void exchange_ForwardsConditionalHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("\"v1\"");
+
+        ResponseEntity<AuditionPost> response = respondingWith(HttpStatus.NOT_MODIFIED, "")
+            .exchange(POST_URL, headers, AuditionPost.class).block();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals("\"v1\"", request.get().headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    void exchange_NotFoundCompletesWithoutError() {
+        ResponseEntity<AuditionPost> response = respondingWith(HttpStatus.NOT_FOUND, "{}")
+            .exchange(POST_URL, HttpHeaders.EMPTY, AuditionPost.class).block();
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void exchange_ClientErrorBecomesHttpClientErrorException() {
+        Mono<ResponseEntity<AuditionPost>> response = respondingWith(HttpStatus.BAD_REQUEST, "bad")
+            .exchange(POST_URL, HttpHeaders.EMPTY, AuditionPost.class);
+
+        HttpClientErrorException exception = assertThrows(HttpClientErrorException.class, response::block);
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals("bad", exception.getResponseBodyAsString());
+    }
+
+    @Test
+    void exchange_ServerErrorBecomesHttpServerErrorException() {
+        Mono<ResponseEntity<AuditionPost>> response = respondingWith(HttpStatus.BAD_GATEWAY, "")
+            .exchange(POST_URL, HttpHeaders.EMPTY, AuditionPost.class);
+
+        HttpServerErrorException exception = assertThrows(HttpServerErrorException.class, response::block);
+        assertEquals(HttpStatus.BAD_GATEWAY, exception.getStatusCode());
+    }
+
+    @Test
+    void exchange_ConnectFailureKeepsItsCause() {
+        Mono<ResponseEntity<AuditionPost>> response = failingWith(new ConnectException("Connection refused"))
+            .exchange(POST_URL, HttpHeaders.EMPTY, AuditionPost.class);
+
+        ResourceAccessException exception = assertThrows(ResourceAccessException.class, response::block);
+        assertInstanceOf(ConnectException.class, exception.getCause());
+    }
+
+    @Test
+    void exchange_ReadTimeoutBecomesSocketTimeout() {
+        Mono<ResponseEntity<AuditionPost>> response = failingWith(ReadTimeoutException.INSTANCE)
+            .exchange(POST_URL, HttpHeaders.EMPTY, AuditionPost.class);
+
+        ResourceAccessException exception = assertThrows(ResourceAccessException.class, response::block);
+        assertInstanceOf(SocketTimeoutException.class, exception.getCause());
+    }
+
+    private ReactiveAuditionIntegrationClient respondingWith(final HttpStatus status, final String body) {
+        return new ReactiveAuditionIntegrationClient(WebClient.builder()
+            .exchangeFunction(clientRequest -> {
+                request.set(clientRequest);
+                ClientResponse.Builder response = ClientResponse.create(status);
+                if (!body.isEmpty()) {
+                    response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).body(body);
+                }
+                return Mono.just(response.build());
+            })
+            .build());
+    }
+
+    private static ReactiveAuditionIntegrationClient failingWith(final Throwable cause) {
+        return new ReactiveAuditionIntegrationClient(WebClient.builder()
+            .exchangeFunction(clientRequest -> Mono.error(new WebClientRequestException(cause, clientRequest.method(),
+                clientRequest.url(), clientRequest.headers())))
+            .build());
+    }
+}
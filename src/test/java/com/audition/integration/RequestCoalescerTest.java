@@ -0,0 +1,106 @@
+package com.audition.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.audition.common.exception.SystemException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class RequestCoalescerTest {
+
+    private static final String KEY = "https://jsonplaceholder.typicode.com/posts/1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer(meterRegistry);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_RunsSequentialRequestsIndependently() {
+        assertEquals("first", requestCoalescer.execute(KEY, () -> "first"));
+        assertEquals("second", requestCoalescer.execute(KEY, () -> "second"));
+        assertEquals(0.0, coalescedCount());
+    }
+
+    @Test
+    void execute_SharesResultOfInFlightRequest() throws Exception {
+        final Future<String> leader = executor.submit(() -> requestCoalescer.execute(KEY, () -> blockingCall("result")));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        final Future<String> follower = executor.submit(() -> requestCoalescer.execute(KEY, () -> blockingCall("other")));
+        awaitCoalesced();
+        release.countDown();
+
+        assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void execute_SharesExceptionOfInFlightRequest() throws Exception {
+        SystemException notFound = new SystemException("Cannot find post with ID 1", "Resource Not Found",
+            HttpStatus.NOT_FOUND.value());
+        final Future<String> leader = executor.submit(() -> requestCoalescer.execute(KEY, () -> {
+            blockingCall("unused");
+            throw notFound;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        final Future<String> follower = executor.submit(() -> requestCoalescer.execute(KEY, () -> blockingCall("other")));
+        awaitCoalesced();
+        release.countDown();
+
+        assertSame(notFound, assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+        assertSame(notFound, assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS))
+            .getCause());
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    private String blockingCall(final String result) {
+        upstreamCalls.incrementAndGet();
+        started.countDown();
+        try {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+    private void awaitCoalesced() throws InterruptedException {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (coalescedCount() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1.0, coalescedCount());
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.get("audition.upstream.coalesced").counter().count();
+    }
+}
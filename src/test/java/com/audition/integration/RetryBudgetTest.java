@@ -0,0 +1,35 @@
+package com.audition.integration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+
+    @Test
+    void tryWithdraw_AllowsBurstThenRefillsFromRequests() {
+        RetryBudget retryBudget = new RetryBudget(0.5, 2);
+
+        assertTrue(retryBudget.tryWithdraw());
+        assertTrue(retryBudget.tryWithdraw());
+        assertFalse(retryBudget.tryWithdraw());
+
+        retryBudget.recordRequest();
+        assertFalse(retryBudget.tryWithdraw());
+        retryBudget.recordRequest();
+        assertTrue(retryBudget.tryWithdraw());
+    }
+
+    @Test
+    void recordRequest_NeverExceedsBurst() {
+        RetryBudget retryBudget = new RetryBudget(1.0, 1);
+
+        for (int i = 0; i < 10; i++) {
+            retryBudget.recordRequest();
+        }
+
+        assertTrue(retryBudget.tryWithdraw());
+        assertFalse(retryBudget.tryWithdraw());
+    }
+}
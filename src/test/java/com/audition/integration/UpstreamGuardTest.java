@@ -0,0 +1,88 @@
+package com.audition.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.audition.common.exception.SystemException;
+import com.audition.integration.UpstreamMetrics.Operation;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class UpstreamGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UpstreamGuard upstreamGuard;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(2)
+            .failureRateThreshold(50)
+            .recordException(new UpstreamFailurePredicate())
+            .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+        upstreamGuard = new UpstreamGuard(circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+    }
+
+    @Test
+    void execute_ReturnsResult() {
+        assertEquals("ok", upstreamGuard.execute(Operation.POSTS, () -> "ok"));
+    }
+
+    @Test
+    void execute_OpensCircuitAfterUpstreamFailures() {
+        failTwice(Operation.POSTS, HttpStatus.SERVICE_UNAVAILABLE);
+
+        SystemException exception = assertThrows(SystemException.class,
+            () -> upstreamGuard.execute(Operation.POSTS, () -> "ok"));
+        assertEquals("Upstream Unavailable", exception.getTitle());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getStatusCode());
+        assertEquals(CircuitBreaker.State.OPEN, upstreamGuard.getCircuitBreakers().get(Operation.POSTS).getState());
+        assertEquals(1.0, meterRegistry.get("audition.upstream.circuit.transitions")
+            .tags("operation", "posts", "from", "CLOSED", "to", "OPEN").counter().count());
+    }
+
+    @Test
+    void execute_CircuitsAreIndependentPerOperation() {
+        failTwice(Operation.POSTS, HttpStatus.SERVICE_UNAVAILABLE);
+
+        assertEquals("ok", upstreamGuard.execute(Operation.COMMENTS, () -> "ok"));
+    }
+
+    @Test
+    void execute_NotFoundDoesNotOpenCircuit() {
+        failTwice(Operation.POST, HttpStatus.NOT_FOUND);
+
+        assertEquals(CircuitBreaker.State.CLOSED, upstreamGuard.getCircuitBreakers().get(Operation.POST).getState());
+    }
+
+    @Test
+    void execute_RejectsCallsBeyondBulkheadLimit() {
+        SystemException exception = assertThrows(SystemException.class,
+            () -> upstreamGuard.execute(Operation.POSTS, () -> upstreamGuard.execute(Operation.POST, () -> "ok")));
+
+        assertEquals("Upstream Saturated", exception.getTitle());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getStatusCode());
+    }
+
+    private void failTwice(final Operation operation, final HttpStatus status) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertThrows(SystemException.class, () -> upstreamGuard.execute(operation, () -> {
+                throw new SystemException("Upstream failed", "Error", status.value());
+            }));
+        }
+    }
+}
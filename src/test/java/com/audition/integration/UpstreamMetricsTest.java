@@ -0,0 +1,92 @@
+package com.audition.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.audition.common.exception.SystemException;
+import com.audition.integration.UpstreamMetrics.Operation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class UpstreamMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final UpstreamMetrics upstreamMetrics = new UpstreamMetrics(meterRegistry);
+
+    @Test
+    void registersEveryOperationAndOutcomeUpFront() {
+        assertEquals(Operation.values().length * UpstreamMetrics.Outcome.values().length,
+            meterRegistry.find("audition.upstream.requests").timers().size());
+    }
+
+    @Test
+    void record_Success() {
+        assertEquals("ok", upstreamMetrics.record(Operation.POST, () -> "ok"));
+
+        assertEquals(1, timerCount("post", "SUCCESS"));
+    }
+
+    @Test
+    void record_ClientError() {
+        SystemException notFound = new SystemException("Cannot find post with ID 1", "Resource Not Found",
+            HttpStatus.NOT_FOUND.value(), HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found",
+            HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8));
+
+        assertThrows(SystemException.class, () -> upstreamMetrics.record(Operation.POST, () -> {
+            throw notFound;
+        }));
+
+        assertEquals(1, timerCount("post", "CLIENT_ERROR"));
+    }
+
+    @Test
+    void record_NotFoundWithoutClientExceptionIsClientError() {
+        SystemException notFound = new SystemException("Cannot find post with ID 1", "Resource Not Found",
+            HttpStatus.NOT_FOUND.value());
+
+        assertThrows(SystemException.class, () -> upstreamMetrics.record(Operation.POST, () -> {
+            throw notFound;
+        }));
+
+        assertEquals(1, timerCount("post", "CLIENT_ERROR"));
+    }
+
+    @Test
+    void record_ServerError() {
+        SystemException unavailable = new SystemException("Bad Gateway", "Error Fetching Posts",
+            HttpStatus.SERVICE_UNAVAILABLE.value(), HttpServerErrorException.create(HttpStatus.BAD_GATEWAY,
+            "Bad Gateway", HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8));
+
+        assertThrows(SystemException.class, () -> upstreamMetrics.record(Operation.POSTS, () -> {
+            throw unavailable;
+        }));
+
+        assertEquals(1, timerCount("posts", "SERVER_ERROR"));
+    }
+
+    @Test
+    void record_TransportFailureIsUnknown() {
+        SystemException timeout = new SystemException("Read timed out", "Error Fetching Comments",
+            HttpStatus.SERVICE_UNAVAILABLE.value(), new ResourceAccessException("Read timed out"));
+
+        assertThrows(SystemException.class, () -> upstreamMetrics.record(Operation.COMMENTS, () -> {
+            throw timeout;
+        }));
+
+        assertEquals(1, timerCount("comments", "UNKNOWN"));
+    }
+
+    private long timerCount(final String operation, final String outcome) {
+        return meterRegistry.get("audition.upstream.requests")
+            .tags("operation", operation, "outcome", outcome)
+            .timer()
+            .count();
+    }
+}
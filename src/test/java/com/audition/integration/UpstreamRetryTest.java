@@ -0,0 +1,309 @@
+package com.audition.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.ConnectionProperties;
+import com.audition.integration.UpstreamMetrics.Operation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class UpstreamRetryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final UpstreamProperties properties = new UpstreamProperties();
+
+    private final ConnectionProperties connectionProperties = new ConnectionProperties();
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    private ExecutorService executor;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getRetry().setMaxBackoff(Duration.ofMillis(5));
+        executor = Executors.newCachedThreadPool();
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        scheduler.shutdown();
+    }
+
+    private UpstreamRetry upstreamRetry() {
+        return new UpstreamRetry(properties, connectionProperties, new UpstreamMetrics(meterRegistry), meterRegistry,
+            executor, scheduler);
+    }
+
+    @Test
+    void execute_RetriesServerErrorsUntilSuccess() {
+        String result = upstreamRetry().execute(Operation.POSTS, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw serverError();
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, meterRegistry.get("audition.upstream.retries").tags("operation", "posts")
+            .counter().count());
+    }
+
+    @Test
+    void execute_RetriesConnectErrors() {
+        SystemException connectError = new SystemException("Connection refused", "Error Fetching Posts",
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            new ResourceAccessException("I/O error", new ConnectException("Connection refused")));
+
+        assertThrows(SystemException.class, () -> upstreamRetry().execute(Operation.POSTS, () -> {
+            attempts.incrementAndGet();
+            throw connectError;
+        }));
+
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void execute_DoesNotRetryClientErrors() {
+        SystemException notFound = new SystemException("Cannot find post with ID 1", "Resource Not Found",
+            HttpStatus.NOT_FOUND.value(), HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found",
+            HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8));
+
+        SystemException thrown = assertThrows(SystemException.class, () -> upstreamRetry().execute(Operation.POST,
+            () -> {
+                attempts.incrementAndGet();
+                throw notFound;
+            }));
+
+        assertSame(notFound, thrown);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void execute_DoesNotRetryReadTimeouts() {
+        SystemException timeout = new SystemException("Read timed out", "Error Fetching Posts",
+            HttpStatus.SERVICE_UNAVAILABLE.value(), new ResourceAccessException("Read timed out"));
+
+        assertThrows(SystemException.class, () -> upstreamRetry().execute(Operation.POSTS, () -> {
+            attempts.incrementAndGet();
+            throw timeout;
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void execute_StopsRetryingWhenBudgetIsSpent() {
+        properties.getRetry().setBudgetBurst(1);
+        properties.getRetry().setBudgetRatio(0);
+        UpstreamRetry upstreamRetry = upstreamRetry();
+
+        assertThrows(SystemException.class, () -> upstreamRetry.execute(Operation.POSTS, () -> {
+            attempts.incrementAndGet();
+            throw serverError();
+        }));
+
+        assertEquals(2, attempts.get());
+        assertEquals(1.0, meterRegistry.get("audition.upstream.retry.budget.exhausted").counter().count());
+    }
+
+    @Test
+    void execute_HedgedPrimaryRunsOnCallingThread() {
+        properties.getHedge().setEnabled(true);
+        Thread caller = Thread.currentThread();
+
+        assertSame(caller, upstreamRetry().execute(Operation.POST, Thread::currentThread));
+    }
+
+    @Test
+    void execute_HedgeAnswersWhenSlowPrimaryFails() {
+        enableHedgingAfter(Duration.ofMillis(10));
+        CountDownLatch hedgeAnswered = new CountDownLatch(1);
+
+        String result = upstreamRetry().execute(Operation.POST, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                await(hedgeAnswered);
+                throw serverError();
+            }
+            hedgeAnswered.countDown();
+            return "fast";
+        });
+
+        assertEquals("fast", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1.0, meterRegistry.get("audition.upstream.hedges").tags("operation", "post")
+            .counter().count());
+    }
+
+    @Test
+    void execute_HedgeWaitIsBoundedByRequestTimeout() {
+        properties.getRetry().setMaxAttempts(1);
+        enableHedgingAfter(Duration.ofMillis(10));
+        connectionProperties.setConnectionRequestTimeout(Duration.ofMillis(50));
+        connectionProperties.setConnectTimeout(Duration.ofMillis(50));
+        connectionProperties.setReadTimeout(Duration.ofMillis(50));
+        CountDownLatch hedgeStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SystemException primaryFailure = serverError();
+
+        try {
+            SystemException thrown = assertTimeoutPreemptively(Duration.ofSeconds(2),
+                () -> assertThrows(SystemException.class, () -> upstreamRetry().execute(Operation.POST, () -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        await(hedgeStarted);
+                        throw primaryFailure;
+                    }
+                    hedgeStarted.countDown();
+                    await(release);
+                    return "late";
+                })));
+            assertSame(primaryFailure, thrown);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void execute_PrimaryAnsweringBeforeHedgeDelayNeverUsesHedgePool() {
+        enableHedgingAfter(Duration.ofSeconds(1));
+        executor = boundedPool();
+        UpstreamRetry upstreamRetry = upstreamRetry();
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals("ok", upstreamRetry.execute(Operation.POST, () -> "ok"));
+        }
+
+        assertEquals(0, ((ThreadPoolExecutor) executor).getTaskCount());
+        assertTrue(scheduler.getScheduledThreadPoolExecutor().getQueue().isEmpty());
+    }
+
+    @Test
+    void execute_HedgeRejectedByBoundedPoolRunsUnhedged() {
+        enableHedgingAfter(Duration.ofMillis(10));
+        executor = boundedPool();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+
+        try {
+            // the primary outlives the hedge delay, so the hedge fires into the occupied pool
+            String result = assertTimeoutPreemptively(Duration.ofSeconds(2),
+                () -> upstreamRetry().execute(Operation.POST, () -> {
+                    while (rejectedHedges() == 0) {
+                        Thread.onSpinWait();
+                    }
+                    return "ok";
+                }));
+
+            assertEquals("ok", result);
+            assertEquals(1.0, rejectedHedges());
+            assertEquals(0.0, meterRegistry.get("audition.upstream.hedges").tags("operation", "post")
+                .counter().count());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void execute_HedgedCallFromInsideSaturatedHedgePoolDoesNotDeadlock() {
+        enableHedgingAfter(Duration.ofMillis(10));
+        executor = boundedPool();
+        UpstreamRetry upstreamRetry = upstreamRetry();
+
+        Future<String> nested = executor.submit(() -> upstreamRetry.execute(Operation.POST, () -> "ok"));
+
+        assertEquals("ok", assertTimeoutPreemptively(Duration.ofSeconds(2), () -> nested.get()));
+    }
+
+    @Test
+    void execute_HedgingPropagatesFailureWhenAllAttemptsFail() {
+        properties.getRetry().setMaxAttempts(1);
+        properties.getHedge().setEnabled(true);
+
+        SystemException thrown = assertThrows(SystemException.class,
+            () -> upstreamRetry().execute(Operation.POST, () -> {
+                throw serverError();
+            }));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), thrown.getStatusCode());
+    }
+
+    @Test
+    void backoff_StaysBelowExponentialCeiling() {
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(100));
+        properties.getRetry().setMaxBackoff(Duration.ofMillis(250));
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(UpstreamRetry.backoff(properties.getRetry(), 1).toMillis() <= 100);
+            assertTrue(UpstreamRetry.backoff(properties.getRetry(), 5).toMillis() <= 250);
+        }
+    }
+
+    @Test
+    void isRetryable_IgnoresCircuitBreakerRejections() {
+        assertFalse(UpstreamRetry.isRetryable(new SystemException("Upstream posts calls are suspended",
+            "Upstream Unavailable", HttpStatus.SERVICE_UNAVAILABLE.value())));
+    }
+
+    private double rejectedHedges() {
+        return meterRegistry.get("audition.upstream.hedges.rejected").tags("operation", "post").counter().count();
+    }
+
+    private void enableHedgingAfter(final Duration delay) {
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setMinDelay(delay);
+        properties.getHedge().setMaxDelay(delay);
+    }
+
+    // one thread and no queue, like the production hedge pool once it is saturated
+    private ExecutorService boundedPool() {
+        executor.shutdownNow();
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<>());
+    }
+
+    private static SystemException serverError() {
+        return new SystemException("Bad Gateway", "Error Fetching Posts", HttpStatus.SERVICE_UNAVAILABLE.value(),
+            HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", HttpHeaders.EMPTY, new byte[0],
+                StandardCharsets.UTF_8));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
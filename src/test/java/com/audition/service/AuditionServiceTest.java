@@ -2,22 +2,44 @@ package com.audition.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.audition.cache.AuditionCache;
+import com.audition.cache.Versioned;
 import com.audition.common.exception.SystemException;
 import com.audition.integration.AuditionIntegrationClient;
+import com.audition.integration.UpstreamProperties;
 import com.audition.model.AuditionComment;
 import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatch;
+import com.audition.model.AuditionPostError;
+import com.audition.model.AuditionPostPage;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
@@ -25,10 +47,14 @@ import org.springframework.http.HttpStatus;
 @ExtendWith(MockitoExtension.class)
 class AuditionServiceTest {
 
+    @Mock
+    private AuditionCache auditionCache;
+
     @Mock
     private AuditionIntegrationClient auditionIntegrationClient;
 
-    @InjectMocks
+    private final UpstreamProperties upstreamProperties = new UpstreamProperties();
+
     private AuditionService auditionService;
 
     private static final List<AuditionPost> MOCK_POSTS;
@@ -39,6 +65,12 @@ class AuditionServiceTest {
         MOCK_POSTS = Arrays.asList(post1, post2);
     }
 
+    @BeforeEach
+    void setUp() {
+        auditionService = new AuditionService(auditionCache, auditionIntegrationClient, upstreamProperties,
+            new PostSearchIndex(new SearchProperties()), new BatchProperties(), Runnable::run);
+    }
+
     @ParameterizedTest
     @CsvSource({
         "null, 2",
@@ -49,7 +81,7 @@ class AuditionServiceTest {
         "TITLE1, 1"
     })
     void testGetPosts_Filtering(String filter, int expectedSize) {
-        when(auditionIntegrationClient.getPosts()).thenReturn(MOCK_POSTS);
+        when(auditionCache.getVersionedPosts()).thenReturn(new Versioned<>(MOCK_POSTS, null));
 
         List<AuditionPost> result = auditionService.getPosts("null".equals(filter) ? null : filter);
 
@@ -59,7 +91,7 @@ class AuditionServiceTest {
 
     @Test
     void testGetPosts_NoPosts() {
-        when(auditionIntegrationClient.getPosts()).thenReturn(Collections.emptyList());
+        when(auditionCache.getVersionedPosts()).thenReturn(new Versioned<>(Collections.emptyList(), null));
 
         List<AuditionPost> result = auditionService.getPosts(null);
 
@@ -67,10 +99,117 @@ class AuditionServiceTest {
         assertEquals(0, result.size());
     }
 
+    @Test
+    void getPostsPage_Unfiltered_MapsOntoUpstreamPage() {
+        when(auditionIntegrationClient.getPostsPage(2, 2)).thenReturn(MOCK_POSTS);
+
+        AuditionPostPage result = auditionService.getPostsPage(null, 2, 2, null);
+
+        assertEquals(MOCK_POSTS, result.getPosts());
+        assertEquals(new PageCursor(3, 0, 2), PageCursor.decode(result.getNextCursor(), 100, null));
+    }
+
+    @Test
+    void getPostsPage_Unfiltered_LastPageHasNoNextCursor() {
+        when(auditionIntegrationClient.getPostsPage(1, 10)).thenReturn(MOCK_POSTS);
+
+        AuditionPostPage result = auditionService.getPostsPage(null, 1, 10, null);
+
+        assertEquals(2, result.getPosts().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getPostsPage_Filtered_ScansUpstreamPagesAndResumesFromCursor() {
+        upstreamProperties.setPageSize(2);
+        AuditionPost first = new AuditionPost(1, 1, "match one", "Body");
+        AuditionPost second = new AuditionPost(1, 2, "Title", "Body");
+        AuditionPost third = new AuditionPost(1, 3, "Title", "MATCH three");
+        AuditionPost fourth = new AuditionPost(1, 4, "Match four", "Body");
+        when(auditionIntegrationClient.getPostsPage(1, 2)).thenReturn(List.of(first, second));
+        when(auditionIntegrationClient.getPostsPage(2, 2)).thenReturn(List.of(third, fourth));
+        when(auditionIntegrationClient.getPostsPage(3, 2)).thenReturn(Collections.emptyList());
+
+        AuditionPostPage firstPage = auditionService.getPostsPage("match", 1, 2, null);
+        assertEquals(List.of(first, third), firstPage.getPosts());
+        assertEquals(new PageCursor(2, 1, 2), PageCursor.decode(firstPage.getNextCursor(), 100, "match"));
+
+        AuditionPostPage secondPage = auditionService.getPostsPage("match", 1, 2, firstPage.getNextCursor());
+        assertEquals(List.of(fourth), secondPage.getPosts());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    void getPostsPage_CursorOfAnotherFilter_IsRejected() {
+        String cursor = new PageCursor(2, 1, 2).encode("match");
+
+        SystemException exception = assertThrows(SystemException.class,
+            () -> auditionService.getPostsPage("other", 1, 2, cursor));
+
+        assertEquals(HttpStatus.BAD_REQUEST.value(), exception.getStatusCode());
+        verifyNoInteractions(auditionIntegrationClient);
+    }
+
+    @Test
+    void getPostsPage_Filtered_SkipsMatchesOfEarlierPages() {
+        upstreamProperties.setPageSize(10);
+        when(auditionIntegrationClient.getPostsPage(1, 10)).thenReturn(MOCK_POSTS);
+
+        AuditionPostPage result = auditionService.getPostsPage("title", 2, 1, null);
+
+        assertEquals(1, result.getPosts().size());
+        assertEquals("Title2", result.getPosts().get(0).getTitle());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getPostsPage_CursorLimitAboveUpstreamMaximum_IsRejected() {
+        String cursor = new PageCursor(1, 0, 10_000).encode(null);
+
+        SystemException exception = assertThrows(SystemException.class,
+            () -> auditionService.getPostsPage(null, 1, 10, cursor));
+
+        assertEquals(HttpStatus.BAD_REQUEST.value(), exception.getStatusCode());
+        verifyNoInteractions(auditionIntegrationClient);
+    }
+
+    @Test
+    void getPostsPage_InvalidCursor() {
+        SystemException exception = assertThrows(SystemException.class,
+            () -> auditionService.getPostsPage(null, 1, 10, "not-a-cursor"));
+
+        assertEquals("Bad Request", exception.getTitle());
+        assertEquals(HttpStatus.BAD_REQUEST.value(), exception.getStatusCode());
+    }
+
+    @Test
+    void streamPosts_PagesThroughUpstreamUntilShortPage() {
+        upstreamProperties.setPageSize(2);
+        AuditionPost third = new AuditionPost(1, 3, "Title3", "Body3");
+        when(auditionIntegrationClient.getPostsPage(1, 2)).thenReturn(MOCK_POSTS);
+        when(auditionIntegrationClient.getPostsPage(2, 2)).thenReturn(List.of(third));
+
+        List<AuditionPost> streamed = new ArrayList<>();
+        auditionService.streamPosts(null, streamed::add);
+
+        assertEquals(List.of(MOCK_POSTS.get(0), MOCK_POSTS.get(1), third), streamed);
+    }
+
+    @Test
+    void streamPosts_Filtered_SkipsNonMatchingPosts() {
+        upstreamProperties.setPageSize(10);
+        when(auditionIntegrationClient.getPostsPage(1, 10)).thenReturn(MOCK_POSTS);
+
+        List<AuditionPost> streamed = new ArrayList<>();
+        auditionService.streamPosts("body2", streamed::add);
+
+        assertEquals(List.of(MOCK_POSTS.get(1)), streamed);
+    }
+
     @Test
     void getPostById_Success() {
         AuditionPost post = new AuditionPost();
-        when(auditionIntegrationClient.getPostById(1)).thenReturn(post);
+        when(auditionCache.getPostById(1)).thenReturn(post);
 
         AuditionPost result = auditionService.getPostById(1);
         assertNotNull(result);
@@ -82,7 +221,7 @@ class AuditionServiceTest {
         SystemException expectedException = new SystemException("Exception message",
             "Exception Title", HttpStatus.INTERNAL_SERVER_ERROR.value());
 
-        when(auditionIntegrationClient.getPostById(1)).thenThrow(expectedException);
+        when(auditionCache.getPostById(1)).thenThrow(expectedException);
 
         SystemException actualException = assertThrows(SystemException.class, () -> auditionService.getPostById(1));
         assertEquals(expectedException.getMessage(), actualException.getMessage());
@@ -90,6 +229,122 @@ class AuditionServiceTest {
         assertEquals(expectedException.getStatusCode(), actualException.getStatusCode());
     }
 
+    @Test
+    void getPostsByIds_ServesCachedPostsWithoutLoading() {
+        AuditionPost cached = new AuditionPost(1, 1, "Title1", "Body1");
+        AuditionPost loaded = new AuditionPost(1, 2, "Title2", "Body2");
+        when(auditionCache.getCachedPost(1)).thenReturn(cached);
+        when(auditionCache.getPostById(2)).thenReturn(loaded);
+
+        AuditionPostBatch batch = auditionService.getPostsByIds(List.of(1, 2, 1));
+
+        assertEquals(List.of(cached, loaded), batch.getPosts());
+        assertTrue(batch.getErrors().isEmpty());
+        verify(auditionCache, never()).getPostById(1);
+    }
+
+    @Test
+    void getPostsByIds_ReportsFailuresPerId() {
+        AuditionPost post = new AuditionPost(1, 1, "Title1", "Body1");
+        when(auditionCache.getPostById(1)).thenReturn(post);
+        when(auditionCache.getPostById(99)).thenThrow(
+            new SystemException("Cannot find post with ID 99", "Resource Not Found", HttpStatus.NOT_FOUND.value()));
+        when(auditionCache.getPostById(3)).thenThrow(new IllegalStateException("boom"));
+
+        AuditionPostBatch batch = auditionService.getPostsByIds(List.of(1, 99, 0, 3));
+
+        assertEquals(List.of(post), batch.getPosts());
+        assertEquals(List.of(99, 0, 3), batch.getErrors().stream().map(AuditionPostError::getId).toList());
+        assertEquals(List.of(404, 400, 500), batch.getErrors().stream().map(AuditionPostError::getStatus).toList());
+        assertEquals("Resource Not Found", batch.getErrors().get(0).getTitle());
+        assertEquals("Invalid post ID 0", batch.getErrors().get(1).getDetail());
+        assertEquals(SystemException.DEFAULT_TITLE, batch.getErrors().get(2).getTitle());
+    }
+
+    @Test
+    void getPostsByIds_RejectsEmptyAndOversizedBatches() {
+        BatchProperties batchProperties = new BatchProperties();
+        batchProperties.setMaxIds(2);
+        auditionService = new AuditionService(auditionCache, auditionIntegrationClient, upstreamProperties,
+            new PostSearchIndex(new SearchProperties()), batchProperties, Runnable::run);
+
+        SystemException empty = assertThrows(SystemException.class, () -> auditionService.getPostsByIds(List.of()));
+        SystemException oversized = assertThrows(SystemException.class,
+            () -> auditionService.getPostsByIds(List.of(1, 2, 3)));
+
+        assertEquals(HttpStatus.BAD_REQUEST.value(), empty.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST.value(), oversized.getStatusCode());
+        assertEquals("Between 1 and 2 post IDs are allowed", oversized.getDetail());
+    }
+
+    @Test
+    void getPostsByIds_BoundsConcurrentUpstreamLookups() {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        BatchProperties batchProperties = new BatchProperties();
+        batchProperties.setParallelism(2);
+        auditionService = new AuditionService(auditionCache, auditionIntegrationClient, upstreamProperties,
+            new PostSearchIndex(new SearchProperties()), batchProperties, executor);
+
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        when(auditionCache.getPostById(anyInt())).thenAnswer(invocation -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            active.decrementAndGet();
+            int id = invocation.getArgument(0);
+            return new AuditionPost(1, id, "Title", "Body");
+        });
+
+        try {
+            AuditionPostBatch batch = auditionService.getPostsByIds(List.of(1, 2, 3, 4, 5, 6));
+
+            assertEquals(List.of(1, 2, 3, 4, 5, 6), batch.getPosts().stream().map(AuditionPost::getId).toList());
+            assertTrue(maxActive.get() <= 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getPostsByIds_CallerDrainsWhenFanOutPoolRejects() {
+        auditionService = new AuditionService(auditionCache, auditionIntegrationClient, upstreamProperties,
+            new PostSearchIndex(new SearchProperties()), new BatchProperties(), task -> {
+                throw new RejectedExecutionException("fan-out pool is full");
+            });
+        List<Thread> loadedOn = Collections.synchronizedList(new ArrayList<>());
+        when(auditionCache.getPostById(anyInt())).thenAnswer(invocation -> {
+            loadedOn.add(Thread.currentThread());
+            int id = invocation.getArgument(0);
+            return new AuditionPost(1, id, "Title", "Body");
+        });
+
+        AuditionPostBatch batch = auditionService.getPostsByIds(List.of(1, 2, 3));
+
+        Thread caller = Thread.currentThread();
+        assertEquals(List.of(1, 2, 3), batch.getPosts().stream().map(AuditionPost::getId).toList());
+        assertTrue(batch.getErrors().isEmpty());
+        assertEquals(List.of(caller, caller, caller), loadedOn);
+    }
+
+    @Test
+    void getPostsByIds_DoesNotWaitForHelpersThePoolNeverStarted() {
+        List<Runnable> queued = new ArrayList<>();
+        auditionService = new AuditionService(auditionCache, auditionIntegrationClient, upstreamProperties,
+            new PostSearchIndex(new SearchProperties()), new BatchProperties(), queued::add);
+        when(auditionCache.getPostById(anyInt())).thenAnswer(invocation -> {
+            int id = invocation.getArgument(0);
+            return new AuditionPost(1, id, "Title", "Body");
+        });
+
+        AuditionPostBatch batch = assertTimeoutPreemptively(Duration.ofSeconds(2),
+            () -> auditionService.getPostsByIds(List.of(1, 2, 3)));
+        queued.forEach(Runnable::run);
+
+        assertEquals(List.of(1, 2, 3), batch.getPosts().stream().map(AuditionPost::getId).toList());
+        assertEquals(2, queued.size());
+        verify(auditionCache, times(3)).getPostById(anyInt());
+    }
+
     @Test
     void getPostWithComments_Success() {
         AuditionPost post = new AuditionPost(1, 101, "Title1", "Body1");
@@ -98,8 +353,8 @@ class AuditionServiceTest {
             new AuditionComment(2, "Name 2", "Email 2", "Comment 2")
         };
 
-        when(auditionIntegrationClient.getPostById(1)).thenReturn(post);
-        when(auditionIntegrationClient.getCommentsForPost(1)).thenReturn(Arrays.asList(comments));
+        when(auditionCache.getVersionedPostById(1)).thenReturn(new Versioned<>(post, null));
+        when(auditionCache.getVersionedCommentsForPost(1)).thenReturn(new Versioned<>(Arrays.asList(comments), null));
 
         AuditionPost result = auditionService.getPostWithComments(1);
         assertNotNull(result);
@@ -108,9 +363,56 @@ class AuditionServiceTest {
         assertEquals("Comment 1", result.getComments().get(0).getBody());
     }
 
+    @Test
+    void getPostWithComments_DoesNotMutateCachedPost() {
+        AuditionPost cachedPost = new AuditionPost(1, 101, "Title1", "Body1");
+
+        when(auditionCache.getVersionedPostById(1)).thenReturn(new Versioned<>(cachedPost, null));
+        when(auditionCache.getVersionedCommentsForPost(1)).thenReturn(new Versioned<>(
+            List.of(new AuditionComment(1, "Name 1", "Email 1", "Comment 1")), null));
+
+        AuditionPost result = auditionService.getPostWithComments(1);
+        assertEquals(1, result.getComments().size());
+        assertEquals("Title1", result.getTitle());
+        assertNull(cachedPost.getComments());
+    }
+
+    @Test
+    void getVersionedPostWithComments_CombinesVersionsOfBothParts() {
+        AuditionPost post = new AuditionPost(1, 101, "Title1", "Body1");
+        List<AuditionComment> comments = List.of(new AuditionComment(1, "Name 1", "Email 1", "Comment 1"));
+
+        when(auditionCache.getVersionedPostById(1)).thenReturn(new Versioned<>(post, "3"));
+        when(auditionCache.getVersionedCommentsForPost(1)).thenReturn(new Versioned<>(comments, "5"));
+
+        Versioned<AuditionPost> result = auditionService.getVersionedPostWithComments(1);
+        assertEquals("3.5", result.version());
+        assertEquals(comments, result.value().getComments());
+    }
+
+    @Test
+    void getVersionedPostWithComments_UnknownPartVersion_HasNoVersion() {
+        AuditionPost post = new AuditionPost(1, 101, "Title1", "Body1");
+
+        when(auditionCache.getVersionedPostById(1)).thenReturn(new Versioned<>(post, "3"));
+        when(auditionCache.getVersionedCommentsForPost(1)).thenReturn(new Versioned<>(Collections.emptyList(), null));
+
+        assertNull(auditionService.getVersionedPostWithComments(1).version());
+    }
+
+    @Test
+    void getVersionedPosts_FilteredResultSharesVersionOfPosts() {
+        List<AuditionPost> posts = List.of(new AuditionPost(1, 1, "Title1", "Body1"));
+        when(auditionCache.getVersionedPosts()).thenReturn(new Versioned<>(posts, "9"));
+
+        Versioned<List<AuditionPost>> result = auditionService.getVersionedPosts("title");
+        assertEquals("9", result.version());
+        assertEquals(1, result.value().size());
+    }
+
     @Test
     void getPostWithComments_PostNotFound() {
-        when(auditionIntegrationClient.getPostById(1)).thenThrow(
+        when(auditionCache.getVersionedPostById(1)).thenThrow(
             new SystemException("Cannot find post with ID 1", "Resource Not Found", HttpStatus.NOT_FOUND.value()));
 
         SystemException exception = assertThrows(SystemException.class, () -> auditionService.getPostWithComments(1));
@@ -119,12 +421,114 @@ class AuditionServiceTest {
         assertEquals(HttpStatus.NOT_FOUND.value(), exception.getStatusCode());
     }
 
+    @Test
+    void getPostWithComments_FailsFastWithoutWaitingForSibling() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch release = new CountDownLatch(1);
+        auditionService = new AuditionService(auditionCache, auditionIntegrationClient, upstreamProperties,
+            new PostSearchIndex(new SearchProperties()), new BatchProperties(), executor);
+
+        when(auditionCache.getVersionedPostById(1)).thenThrow(
+            new SystemException("Cannot find post with ID 1", "Resource Not Found", HttpStatus.NOT_FOUND.value()));
+        lenient().when(auditionCache.getVersionedCommentsForPost(1)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new Versioned<>(Collections.emptyList(), null);
+        });
+
+        try {
+            SystemException exception = assertTimeoutPreemptively(Duration.ofSeconds(2),
+                () -> assertThrows(SystemException.class, () -> auditionService.getPostWithComments(1)));
+            assertEquals(HttpStatus.NOT_FOUND.value(), exception.getStatusCode());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void getPostWithComments_PostFailureCancelsQueuedComments() {
+        List<Runnable> queued = new ArrayList<>();
+        auditionService = new AuditionService(auditionCache, auditionIntegrationClient, upstreamProperties,
+            new PostSearchIndex(new SearchProperties()), new BatchProperties(), queued::add);
+        when(auditionCache.getVersionedPostById(1)).thenThrow(
+            new SystemException("Cannot find post with ID 1", "Resource Not Found", HttpStatus.NOT_FOUND.value()));
+
+        assertThrows(SystemException.class, () -> auditionService.getPostWithComments(1));
+        queued.forEach(Runnable::run);
+
+        assertEquals(1, queued.size());
+        verify(auditionCache, never()).getVersionedCommentsForPost(anyInt());
+    }
+
+    @Test
+    void getVersionedPostWithComments_LoadsCommentsStillQueuedOnTheCallingThread() {
+        List<Runnable> queued = new ArrayList<>();
+        auditionService = new AuditionService(auditionCache, auditionIntegrationClient, upstreamProperties,
+            new PostSearchIndex(new SearchProperties()), new BatchProperties(), queued::add);
+        List<Thread> loadedOn = new ArrayList<>();
+        when(auditionCache.getVersionedPostById(1)).thenReturn(
+            new Versioned<>(new AuditionPost(1, 101, "Title1", "Body1"), "3"));
+        when(auditionCache.getVersionedCommentsForPost(1)).thenAnswer(invocation -> {
+            loadedOn.add(Thread.currentThread());
+            return new Versioned<>(Collections.emptyList(), "6");
+        });
+
+        assertEquals("3.6", auditionService.getVersionedPostWithComments(1).version());
+        queued.forEach(Runnable::run);
+
+        assertEquals(List.of(Thread.currentThread()), loadedOn);
+    }
+
+    @Test
+    void getVersionedPostWithComments_AnswersFromCacheWithoutFanningOut() {
+        AtomicInteger submitted = new AtomicInteger();
+        auditionService = new AuditionService(auditionCache, auditionIntegrationClient, upstreamProperties,
+            new PostSearchIndex(new SearchProperties()), new BatchProperties(), task -> submitted.incrementAndGet());
+        when(auditionCache.getCachedVersionedPost(1)).thenReturn(
+            new Versioned<>(new AuditionPost(1, 101, "Title1", "Body1"), "3"));
+        when(auditionCache.getCachedVersionedCommentsForPost(1)).thenReturn(new Versioned<>(Collections.emptyList(), "5"));
+
+        Versioned<AuditionPost> result = auditionService.getVersionedPostWithComments(1);
+
+        assertEquals("3.5", result.version());
+        assertEquals(0, submitted.get());
+        verify(auditionCache, never()).getVersionedPostById(anyInt());
+        verify(auditionCache, never()).getVersionedCommentsForPost(anyInt());
+    }
+
+    @Test
+    void getVersionedPostWithComments_LoadsOnlyTheMissingPartOnTheCallingThread() {
+        AtomicInteger submitted = new AtomicInteger();
+        auditionService = new AuditionService(auditionCache, auditionIntegrationClient, upstreamProperties,
+            new PostSearchIndex(new SearchProperties()), new BatchProperties(), task -> submitted.incrementAndGet());
+        when(auditionCache.getCachedVersionedPost(1)).thenReturn(
+            new Versioned<>(new AuditionPost(1, 101, "Title1", "Body1"), "3"));
+        when(auditionCache.getVersionedCommentsForPost(1)).thenReturn(new Versioned<>(Collections.emptyList(), "6"));
+
+        assertEquals("3.6", auditionService.getVersionedPostWithComments(1).version());
+        assertEquals(0, submitted.get());
+    }
+
+    @Test
+    void getPostWithComments_RejectedFanOutIsServiceUnavailable() {
+        auditionService = new AuditionService(auditionCache, auditionIntegrationClient, upstreamProperties,
+            new PostSearchIndex(new SearchProperties()), new BatchProperties(), task -> {
+                throw new RejectedExecutionException("fan-out pool is full");
+            });
+
+        SystemException exception = assertThrows(SystemException.class, () -> auditionService.getPostWithComments(1));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getStatusCode());
+        verify(auditionCache, never()).getVersionedPostById(anyInt());
+    }
+
     @Test
     void getPostWithComments_CommentsNotFound() {
         AuditionPost post = new AuditionPost(1, 101, "Title1", "Body1");
 
-        when(auditionIntegrationClient.getPostById(1)).thenReturn(post);
-        when(auditionIntegrationClient.getCommentsForPost(1)).thenThrow(
+        when(auditionCache.getVersionedPostById(1)).thenReturn(new Versioned<>(post, null));
+        when(auditionCache.getVersionedCommentsForPost(1)).thenThrow(
             new SystemException("Cannot find comments for post with ID 1", "Resource Not Found",
                 HttpStatus.NOT_FOUND.value()));
 
@@ -138,8 +542,8 @@ class AuditionServiceTest {
     void getPostWithComments_EmptyComments() {
         AuditionPost post = new AuditionPost(1, 101, "Title1", "Body1");
 
-        when(auditionIntegrationClient.getPostById(1)).thenReturn(post);
-        when(auditionIntegrationClient.getCommentsForPost(1)).thenReturn(Collections.emptyList());
+        when(auditionCache.getVersionedPostById(1)).thenReturn(new Versioned<>(post, null));
+        when(auditionCache.getVersionedCommentsForPost(1)).thenReturn(new Versioned<>(Collections.emptyList(), null));
 
         AuditionPost result = auditionService.getPostWithComments(1);
         assertNotNull(result);
@@ -154,7 +558,7 @@ class AuditionServiceTest {
             new AuditionComment(2, "Name 2", "Email 2", "Comment 2")
         };
 
-        when(auditionIntegrationClient.getComments(1)).thenReturn(Arrays.asList(comments));
+        when(auditionCache.getComments(1)).thenReturn(Arrays.asList(comments));
 
         List<AuditionComment> result = auditionService.getComments(1);
         assertEquals(2, result.size());
@@ -169,7 +573,7 @@ class AuditionServiceTest {
             new AuditionComment(2, "Name 2", "Email 2", "Comment 2")
         };
 
-        when(auditionIntegrationClient.getComments(null)).thenReturn(Arrays.asList(comments));
+        when(auditionCache.getComments(null)).thenReturn(Arrays.asList(comments));
 
         List<AuditionComment> result = auditionService.getComments(null);
         assertEquals(2, result.size());
@@ -179,7 +583,7 @@ class AuditionServiceTest {
 
     @Test
     void getComments_WithPostId_NotFound() {
-        when(auditionIntegrationClient.getComments(1)).thenThrow(
+        when(auditionCache.getComments(1)).thenThrow(
             new SystemException("Cannot find comments for post with ID 1", "Resource Not Found",
                 HttpStatus.NOT_FOUND.value()));
 
@@ -191,7 +595,7 @@ class AuditionServiceTest {
 
     @Test
     void getComments_WithPostId_ClientError() {
-        when(auditionIntegrationClient.getComments(1)).thenThrow(
+        when(auditionCache.getComments(1)).thenThrow(
             new SystemException("Client Error", "Error Fetching Comments", HttpStatus.BAD_REQUEST.value()));
 
         SystemException exception = assertThrows(SystemException.class, () -> auditionService.getComments(1));
@@ -202,7 +606,7 @@ class AuditionServiceTest {
 
     @Test
     void getComments_WithPostId_RestClientException() {
-        when(auditionIntegrationClient.getComments(1)).thenThrow(
+        when(auditionCache.getComments(1)).thenThrow(
             new SystemException("Service Unavailable", "Error Fetching Comments",
                 HttpStatus.SERVICE_UNAVAILABLE.value()));
 
@@ -214,7 +618,7 @@ class AuditionServiceTest {
 
     @Test
     void getComments_WithPostId_EmptyResponse() {
-        when(auditionIntegrationClient.getComments(1)).thenReturn(Collections.emptyList());
+        when(auditionCache.getComments(1)).thenReturn(Collections.emptyList());
 
         List<AuditionComment> result = auditionService.getComments(1);
         assertTrue(result.isEmpty());
@@ -0,0 +1,30 @@
+package com.audition.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class CaseInsensitiveMatcherTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "Quarterly Report, report, true",
+        "Quarterly Report, QUARTERLY, true",
+        "Quarterly Report, rLy rE, true",
+        "Quarterly Report, Report!, false",
+        "Quarterly Report, '', true",
+        "abc, abcd, false",
+        "'', a, false"
+    })
+    void contains_MatchesLowerCaseContainsSemantics(String text, String query, boolean expected) {
+        assertEquals(expected, CaseInsensitiveMatcher.contains(text, query));
+    }
+
+    @Test
+    void contains_NullTextNeverMatches() {
+        assertFalse(CaseInsensitiveMatcher.contains(null, "a"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.audition.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class FanOutTaskTest {
+
+    private final List<Runnable> queued = new ArrayList<>();
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    void join_RunsUnstartedWorkOnTheCallingThreadOnce() {
+        Thread caller = Thread.currentThread();
+        FanOutTask<Thread> task = FanOutTask.submit(() -> {
+            runs.incrementAndGet();
+            return Thread.currentThread();
+        }, queued::add);
+
+        assertSame(caller, task.join());
+        queued.forEach(Runnable::run);
+
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void join_ReturnsWhatThePoolProduced() {
+        FanOutTask<Integer> task = FanOutTask.submit(runs::incrementAndGet, Runnable::run);
+
+        assertEquals(1, task.join());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void join_RethrowsThePoolFailure() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        FanOutTask<Integer> task = FanOutTask.submit(() -> {
+            throw failure;
+        }, Runnable::run);
+
+        assertSame(failure, assertThrows(IllegalStateException.class, task::join));
+    }
+
+    @Test
+    void cancel_KeepsUnstartedWorkFromRunning() {
+        FanOutTask<Integer> task = FanOutTask.submit(runs::incrementAndGet, queued::add);
+
+        assertTrue(task.cancel());
+        queued.forEach(Runnable::run);
+
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void cancel_ReportsWorkThatAlreadyStarted() {
+        FanOutTask<Integer> task = FanOutTask.submit(runs::incrementAndGet, Runnable::run);
+
+        assertFalse(task.cancel());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void submit_PropagatesRejection() {
+        assertThrows(RejectedExecutionException.class, () -> FanOutTask.submit(runs::incrementAndGet, task -> {
+            throw new RejectedExecutionException("full");
+        }));
+    }
+}
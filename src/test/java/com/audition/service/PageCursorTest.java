@@ -0,0 +1,45 @@
+package com.audition.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.audition.common.exception.SystemException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+
+class PageCursorTest {
+
+    @Test
+    void encode_RoundTripsThroughDecode() {
+        PageCursor cursor = new PageCursor(3, 7, 50);
+
+        assertEquals(cursor, PageCursor.decode(cursor.encode("title"), 100, "title"));
+    }
+
+    @Test
+    void decode_RejectsCursorOfAnotherFilter() {
+        String cursor = new PageCursor(3, 7, 50).encode("title");
+
+        assertThrows(SystemException.class, () -> PageCursor.decode(cursor, 100, "body"));
+        assertThrows(SystemException.class, () -> PageCursor.decode(cursor, 100, null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1:2:3", "0:0:10:0", "1:-1:10:0", "1:0:0:0", "1:0:101:0", "a:b:c:0", "1:0:10:x"})
+    void decode_RejectsMalformedCursor(String value) {
+        String cursor = Base64.getUrlEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+
+        SystemException exception = assertThrows(SystemException.class, () -> PageCursor.decode(cursor, 100, null));
+        assertEquals(HttpStatus.BAD_REQUEST.value(), exception.getStatusCode());
+        assertEquals("Invalid cursor " + cursor, exception.getMessage());
+    }
+
+    @Test
+    void decode_RejectsInvalidBase64() {
+        assertThrows(SystemException.class, () -> PageCursor.decode("%%%", 100, null));
+    }
+}
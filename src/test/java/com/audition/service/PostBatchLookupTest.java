@@ -0,0 +1,57 @@
+package com.audition.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.audition.cache.AuditionCache;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PostBatchLookupTest {
+
+    private final AuditionCache auditionCache = mock(AuditionCache.class);
+
+    private final List<Runnable> queued = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(auditionCache.getPostById(anyInt())).thenAnswer(invocation -> post(invocation.getArgument(0)));
+    }
+
+    @Test
+    void run_KeepsRequestOrderWhateverWorkerLoadedEachPost() {
+        AuditionPostBatch batch = new PostBatchLookup(auditionCache, List.of(3, 1, 2)).run(Runnable::run, 3);
+
+        assertEquals(List.of(3, 1, 2), batch.getPosts().stream().map(AuditionPost::getId).toList());
+        assertTrue(batch.getErrors().isEmpty());
+    }
+
+    @Test
+    void run_SingleWorkerNeverUsesThePool() {
+        AuditionPostBatch batch = new PostBatchLookup(auditionCache, List.of(1, 2, 3)).run(queued::add, 1);
+
+        assertEquals(3, batch.getPosts().size());
+        assertTrue(queued.isEmpty());
+    }
+
+    @Test
+    void run_CallerDrainsWhatThePoolRejects() {
+        AuditionPostBatch batch = new PostBatchLookup(auditionCache, List.of(1, 2, 3)).run(task -> {
+            throw new RejectedExecutionException("full");
+        }, 3);
+
+        assertEquals(List.of(1, 2, 3), batch.getPosts().stream().map(AuditionPost::getId).toList());
+    }
+
+    private static AuditionPost post(final int id) {
+        return new AuditionPost(1, id, "Title" + id, "Body" + id);
+    }
+}
@@ -0,0 +1,73 @@
+package com.audition.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.audition.model.AuditionPost;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PostSearchIndexTest {
+
+    private static final List<AuditionPost> POSTS = List.of(
+        new AuditionPost(1, 1, "Quarterly report", "Numbers are up"),
+        new AuditionPost(1, 2, "Holiday plans", "Quarterly leave is approved"),
+        new AuditionPost(2, 3, "Release notes", "Bug fixes only"));
+
+    private final SearchProperties searchProperties = new SearchProperties();
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex = new PostSearchIndex(searchProperties);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "arterl, 2",
+        "QUARTERLY, 2",
+        "e, 3",
+        "x, 1",
+        "notes bug, 0",
+        "missing, 0"
+    })
+    void search_KeepsCaseInsensitiveSubstringSemantics(String filter, int expectedSize) {
+        assertEquals(expectedSize, postSearchIndex.search(POSTS, filter).size());
+    }
+
+    @Test
+    void search_RanksTitleMatchesBeforeBodyMatches() {
+        List<AuditionPost> result = postSearchIndex.search(POSTS, "quarterly");
+
+        assertEquals(List.of(1, 2), result.stream().map(AuditionPost::getId).toList());
+    }
+
+    @Test
+    void search_LimitsResults() {
+        searchProperties.setMaxResults(2);
+
+        List<AuditionPost> result = postSearchIndex.search(POSTS, "e");
+
+        assertEquals(2, result.size());
+        assertEquals(List.of(1, 3), result.stream().map(AuditionPost::getId).toList());
+    }
+
+    @Test
+    void search_ReindexesWhenCachedListIsRefreshed() {
+        postSearchIndex.search(POSTS, "release");
+        AuditionPost edited = new AuditionPost(2, 3, "Hotfix notes", "Bug fixes only");
+        AuditionPost added = new AuditionPost(3, 4, "Release candidate", "Please test");
+
+        List<AuditionPost> result = postSearchIndex.search(List.of(POSTS.get(0), POSTS.get(1), edited, added),
+            "release");
+
+        assertEquals(1, result.size());
+        assertSame(added, result.get(0));
+        assertTrue(postSearchIndex.search(POSTS, "hotfix").isEmpty());
+    }
+}
@@ -1,19 +1,40 @@
 package com.audition.web;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.audition.cache.Versioned;
 import com.audition.common.exception.SystemException;
 import com.audition.common.logging.AuditionLogger;
+import com.audition.configuration.WebServiceConfiguration;
 import com.audition.model.AuditionComment;
 import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatch;
+import com.audition.model.AuditionPostError;
+import com.audition.model.AuditionPostPage;
 import com.audition.service.AuditionService;
 import com.audition.web.advice.ExceptionControllerAdvice;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,11 +42,16 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
 
 @ExtendWith(MockitoExtension.class)
 class AuditionControllerTest {
@@ -38,6 +64,18 @@ class AuditionControllerTest {
     @Mock
     private AuditionLogger auditionLogger;
 
+    @Spy
+    private CacheControlProperties cacheControlProperties = new CacheControlProperties();
+
+    @Spy
+    private JsonStreamWriter jsonStreamWriter = new JsonStreamWriter(new WebServiceConfiguration().objectMapper());
+
+    private final PrecompressedPayloads precompressedPayloads = spy(new PrecompressedPayloads(
+        new WebServiceConfiguration().objectMapper(), compression(), false, new ResponseCacheProperties()));
+
+    @Spy
+    private CachedResponses cachedResponses = new CachedResponses(precompressedPayloads);
+
     @InjectMocks
     private AuditionController auditionController;
 
@@ -49,6 +87,13 @@ class AuditionControllerTest {
         new AuditionPost(2, 102, "Title2", "Body2")
     );
 
+    private static Compression compression() {
+        Compression compression = new Compression();
+        compression.setEnabled(true);
+        compression.setMinResponseSize(DataSize.ofBytes(1));
+        return compression;
+    }
+
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders
@@ -69,7 +114,7 @@ class AuditionControllerTest {
 
     @Test
     void testGetPosts_NoFilter_ReturnsAllPosts() throws Exception {
-        when(auditionService.getPosts(null)).thenReturn(MOCK_POSTS);
+        when(auditionService.getVersionedPosts(null)).thenReturn(new Versioned<>(MOCK_POSTS, null));
 
         mockMvc.perform(get("/posts")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -94,10 +139,235 @@ class AuditionControllerTest {
                 .filter(post -> post.getTitle().equalsIgnoreCase(filter) || post.getBody().equalsIgnoreCase(filter))
                 .toList();
 
-        when(auditionService.getPosts(filter)).thenReturn(expectedPosts);
+        // an empty filter means no filter, so the service is asked for every post
+        String activeFilter = filter.isEmpty() ? null : filter;
+        when(auditionService.getVersionedPosts(activeFilter)).thenReturn(new Versioned<>(expectedPosts, null));
         performGetRequest(filter, expectedSize, expectedTitle);
     }
 
+    @Test
+    void getPosts_EmptyFilter_ServesTheUnfilteredList() throws Exception {
+        when(auditionService.getVersionedPosts(null)).thenReturn(new Versioned<>(MOCK_POSTS, "7"));
+
+        mockMvc.perform(get("/posts").param("filter", ""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + cachedResponses.getInstanceTag() + "-7\""))
+            .andExpect(jsonPath("$.length()").value(2));
+
+        verify(auditionService).getVersionedPosts(null);
+        verify(auditionService, never()).getVersionedPosts("");
+    }
+
+    @Test
+    void getPosts_WithPageAndLimit_ReturnsPageAndNextLink() throws Exception {
+        when(auditionService.getPostsPage(null, 2, 2, null)).thenReturn(new AuditionPostPage(MOCK_POSTS, "Mzow"));
+
+        mockMvc.perform(get("/posts?page=2&limit=2")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(header().string(HttpHeaders.LINK, "<http://localhost/posts?limit=2&cursor=Mzow>; rel=\"next\""));
+    }
+
+    @Test
+    void getPosts_WithFilterAndDefaultLimit_NextLinkKeepsFilterAndLimit() throws Exception {
+        when(auditionService.getPostsPage("my title", 1, 10, "TXpvdw"))
+            .thenReturn(new AuditionPostPage(MOCK_POSTS, "Mzow"));
+
+        mockMvc.perform(get(URI.create("/posts?filter=my%20title&cursor=TXpvdw"))
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.LINK,
+                "<http://localhost/posts?filter=my%20title&limit=10&cursor=Mzow>; rel=\"next\""));
+    }
+
+    @Test
+    void getPosts_WithCursor_LastPageHasNoNextLink() throws Exception {
+        when(auditionService.getPostsPage("title", 1, 10, "Mzow")).thenReturn(new AuditionPostPage(MOCK_POSTS, null));
+
+        mockMvc.perform(get("/posts")
+                .param("filter", "title")
+                .param("cursor", "Mzow")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "page, 0, Invalid page 0",
+        "limit, 0, 'Invalid limit 0, must be between 1 and 100'",
+        "limit, 101, 'Invalid limit 101, must be between 1 and 100'"
+    })
+    void getPosts_InvalidPaging_ReturnsBadRequest(String name, String value, String expectedDetail) throws Exception {
+        mockMvc.perform(get("/posts")
+                .param(name, value)
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value(expectedDetail))
+            .andExpect(jsonPath("$.title").value("Bad Request"));
+    }
+
+    @Test
+    void getPosts_PageAndCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/posts")
+                .param("page", "2")
+                .param("cursor", "Mzow")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Parameters page and cursor cannot be combined"));
+    }
+
+    @Test
+    void getPosts_Versioned_SetsETagAndCacheControl() throws Exception {
+        when(auditionService.getVersionedPosts(null)).thenReturn(new Versioned<>(MOCK_POSTS, "7"));
+
+        mockMvc.perform(get("/posts"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + cachedResponses.getInstanceTag() + "-7\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30"));
+    }
+
+    @Test
+    void getPosts_MatchingIfNoneMatch_ReturnsNotModifiedWithoutBody() throws Exception {
+        when(auditionService.getVersionedPosts("title")).thenReturn(new Versioned<>(MOCK_POSTS, "7"));
+        String etag = "\"" + cachedResponses.getInstanceTag() + "-7\"";
+
+        mockMvc.perform(get("/posts")
+                .param("filter", "title")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void getComments_MatchingGzipIfNoneMatch_AnswersBeforeBuildingPayload() throws Exception {
+        when(auditionService.getVersionedComments(1)).thenReturn(
+            new Versioned<>(List.of(new AuditionComment(1, "Name 1", "Email 1", "Comment 1")), "4"));
+        String etag = "\"" + cachedResponses.getInstanceTag() + "-4-gzip\"";
+
+        mockMvc.perform(get("/comments")
+                .param("postId", "1")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+            .andExpect(content().string(""));
+
+        verify(precompressedPayloads, never()).get(any(), any());
+    }
+
+    @Test
+    void getPostById_StaleIfNoneMatch_ReturnsPost() throws Exception {
+        when(auditionService.getVersionedPostById(1)).thenReturn(
+            new Versioned<>(new AuditionPost(1, 1, "Title1", "Body1"), "8"));
+
+        mockMvc.perform(get("/posts/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + cachedResponses.getInstanceTag() + "-7\""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title").value("Title1"));
+    }
+
+    @Test
+    void getComments_AcceptsGzip_ReturnsPrecompressedBody() throws Exception {
+        List<AuditionComment> comments = List.of(
+            new AuditionComment(1, "Name 1", "Email 1", "Comment 1"),
+            new AuditionComment(2, "Name 2", "Email 2", "Comment 2"));
+        when(auditionService.getVersionedComments(1)).thenReturn(new Versioned<>(comments, "4"));
+
+        byte[] body = mockMvc.perform(get("/comments")
+                .param("postId", "1")
+                .header(HttpHeaders.ACCEPT_ENCODING, "br;q=0, gzip"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + cachedResponses.getInstanceTag() + "-4-gzip\""))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream json = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals(2, new WebServiceConfiguration().objectMapper().readTree(json).size());
+        }
+    }
+
+    @Test
+    void getPosts_Unfiltered_WithoutAcceptEncoding_ReturnsPlainJson() throws Exception {
+        when(auditionService.getVersionedPosts(null)).thenReturn(new Versioned<>(MOCK_POSTS, "7"));
+
+        mockMvc.perform(get("/posts"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$[1].title").value("Title2"));
+    }
+
+    @Test
+    void streamPosts_WritesJsonArray() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<AuditionPost> sink = invocation.getArgument(1);
+            MOCK_POSTS.forEach(sink);
+            return null;
+        }).when(auditionService).streamPosts(eq("title"), any());
+
+        MvcResult result = mockMvc.perform(get("/posts")
+                .param("stream", "true")
+                .param("filter", "title"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[1].title").value("Title2"));
+    }
+
+    @Test
+    void streamComments_AcceptsNdjson_WritesOneCommentPerLine() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<AuditionComment> sink = invocation.getArgument(1);
+            sink.accept(new AuditionComment(1, "Name 1", "Email 1", "Comment 1"));
+            sink.accept(new AuditionComment(2, "Name 2", "Email 2", "Comment 2"));
+            return null;
+        }).when(auditionService).streamComments(eq(1), any());
+
+        MvcResult result = mockMvc.perform(get("/comments")
+                .param("stream", "true")
+                .param("postId", "1")
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+        assertEquals(2, body.lines().count());
+    }
+
+    @Test
+    void streamComments_InvalidPostId_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/comments")
+                .param("stream", "true")
+                .param("postId", "0"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Invalid post ID 0"));
+    }
+
+    @Test
+    void getComments_UnknownVersion_OmitsETag() throws Exception {
+        cacheControlProperties.setComments(Duration.ZERO);
+        when(auditionService.getVersionedComments(null)).thenReturn(new Versioned<>(Collections.emptyList(), null));
+
+        mockMvc.perform(get("/comments"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
     @ParameterizedTest
     @CsvSource({
         "1, 101, Title1, Body1",
@@ -106,7 +376,7 @@ class AuditionControllerTest {
     void getPostById_ValidId_ReturnsPost(int expectedUserId, int postId, String expectedTitle, String expectedBody)
         throws Exception {
         AuditionPost expectedPost = new AuditionPost(expectedUserId, postId, expectedTitle, expectedBody);
-        when(auditionService.getPostById(postId)).thenReturn(expectedPost);
+        when(auditionService.getVersionedPostById(postId)).thenReturn(new Versioned<>(expectedPost, null));
 
         mockMvc.perform(get("/posts/{id}", postId)
                 .contentType(MediaType.APPLICATION_JSON))
@@ -130,6 +400,31 @@ class AuditionControllerTest {
             .andExpect(jsonPath("$.title").value("Bad Request"));
     }
 
+    @Test
+    void getPostsByIds_ReturnsPostsAndPerIdErrors() throws Exception {
+        when(auditionService.getPostsByIds(List.of(101, 999))).thenReturn(new AuditionPostBatch(
+            List.of(MOCK_POSTS.get(0)),
+            List.of(new AuditionPostError(999, 404, "Resource Not Found", "Cannot find post with ID 999"))));
+
+        mockMvc.perform(get("/posts").param("ids", "101,999"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.posts.length()").value(1))
+            .andExpect(jsonPath("$.posts[0].id").value(101))
+            .andExpect(jsonPath("$.errors[0].id").value(999))
+            .andExpect(jsonPath("$.errors[0].status").value(404))
+            .andExpect(jsonPath("$.errors[0].title").value("Resource Not Found"));
+    }
+
+    @Test
+    void getPostsByIds_TooManyIds_ReturnsBadRequest() throws Exception {
+        when(auditionService.getPostsByIds(List.of(1, 2))).thenThrow(
+            new SystemException("Between 1 and 1 post IDs are allowed", "Bad Request", HttpStatus.BAD_REQUEST.value()));
+
+        mockMvc.perform(get("/posts").param("ids", "1,2"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Between 1 and 1 post IDs are allowed"));
+    }
+
     @Test
     void getPostWithComments_ValidId_ReturnsPostWithComments() throws Exception {
         AuditionPost post = new AuditionPost(1, 101, "Title1", "Body1");
@@ -138,7 +433,7 @@ class AuditionControllerTest {
             new AuditionComment(2, "Name 2", "Email 2", "Comment 2")
         };
 
-        when(auditionService.getPostWithComments(1)).thenReturn(post);
+        when(auditionService.getVersionedPostWithComments(1)).thenReturn(new Versioned<>(post, null));
         post.setComments(Arrays.asList(comments));
 
         mockMvc.perform(get("/posts/1/comments")
@@ -161,7 +456,7 @@ class AuditionControllerTest {
 
     @Test
     void getPostWithComments_PostNotFound() throws Exception {
-        when(auditionService.getPostWithComments(1)).thenThrow(
+        when(auditionService.getVersionedPostWithComments(1)).thenThrow(
             new SystemException("Cannot find post with ID 1", "Resource Not Found", HttpStatus.NOT_FOUND.value()));
 
         mockMvc.perform(get("/posts/1/comments")
@@ -175,7 +470,7 @@ class AuditionControllerTest {
     void getPostWithComments_CommentsNotFound() throws Exception {
         AuditionPost post = new AuditionPost(1, 101, "Title1", "Body1");
 
-        when(auditionService.getPostWithComments(1)).thenReturn(post);
+        when(auditionService.getVersionedPostWithComments(1)).thenReturn(new Versioned<>(post, null));
         post.setComments(Collections.emptyList());
 
         mockMvc.perform(get("/posts/1/comments")
@@ -192,7 +487,7 @@ class AuditionControllerTest {
             new AuditionComment(2, "Name 2", "Email 2", "Comment 2")
         };
 
-        when(auditionService.getComments(1)).thenReturn(Arrays.asList(comments));
+        when(auditionService.getVersionedComments(1)).thenReturn(new Versioned<>(Arrays.asList(comments), null));
 
         mockMvc.perform(get("/comments")
                 .param("postId", "1")
@@ -210,7 +505,7 @@ class AuditionControllerTest {
             new AuditionComment(2, "Name 2", "Email 2", "Comment 2")
         };
 
-        when(auditionService.getComments(null)).thenReturn(Arrays.asList(comments));
+        when(auditionService.getVersionedComments(null)).thenReturn(new Versioned<>(Arrays.asList(comments), null));
 
         mockMvc.perform(get("/comments")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -232,7 +527,7 @@ class AuditionControllerTest {
 
     @Test
     void getComments_PostIdNotFound() throws Exception {
-        when(auditionService.getComments(1)).thenThrow(
+        when(auditionService.getVersionedComments(1)).thenThrow(
             new SystemException("Cannot find comments for post with ID 1", "Resource Not Found",
                 HttpStatus.NOT_FOUND.value()));
 
@@ -246,7 +541,7 @@ class AuditionControllerTest {
 
     @Test
     void getComments_EmptyResponse() throws Exception {
-        when(auditionService.getComments(1)).thenReturn(Collections.emptyList());
+        when(auditionService.getVersionedComments(1)).thenReturn(new Versioned<>(Collections.emptyList(), null));
 
         mockMvc.perform(get("/comments")
                 .param("postId", "1")
@@ -0,0 +1,34 @@
+package com.audition.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ContentEncodingTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "gzip, deflate, br | true | BROTLI",
+        "gzip, deflate, br | false | GZIP",
+        "GZIP | true | GZIP",
+        "br;q=0, gzip;q=0.5 | true | GZIP",
+        "gzip;q=0 | true | IDENTITY",
+        "* | true | BROTLI",
+        "deflate | true | IDENTITY",
+        "' ' | true | IDENTITY"
+    })
+    void negotiate_PicksSmallestAcceptedEncoding(String acceptEncoding, boolean brotliAvailable,
+        ContentEncoding expected) {
+        assertEquals(expected, ContentEncoding.negotiate(acceptEncoding, brotliAvailable));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "true",
+        "false"
+    })
+    void negotiate_MissingHeader_ReturnsIdentity(boolean brotliAvailable) {
+        assertEquals(ContentEncoding.IDENTITY, ContentEncoding.negotiate(null, brotliAvailable));
+    }
+}
@@ -0,0 +1,110 @@
+package com.audition.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+class JsonStreamWriterTest {
+
+    private final JsonStreamWriter jsonStreamWriter = new JsonStreamWriter(new WebServiceConfiguration().objectMapper());
+
+    private static void twoPosts(Consumer<AuditionPost> sink) {
+        sink.accept(new AuditionPost(1, 1, "Title1", "Body1"));
+        sink.accept(new AuditionPost(1, 2, "Title2", "Body2"));
+    }
+
+    @Test
+    void jsonArray_WritesElementsAsOneArray() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        jsonStreamWriter.<AuditionPost>jsonArray(JsonStreamWriterTest::twoPosts).writeTo(out);
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertEquals(2, new WebServiceConfiguration().objectMapper().readTree(json).size());
+    }
+
+    @Test
+    void jsonArray_NoElements_WritesEmptyArray() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        jsonStreamWriter.jsonArray(sink -> { }).writeTo(out);
+
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void ndjson_WritesOneDocumentPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        jsonStreamWriter.<AuditionPost>ndjson(JsonStreamWriterTest::twoPosts).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(2, new WebServiceConfiguration().objectMapper().readTree(lines[1]).get("id").asInt());
+    }
+
+    @Test
+    void jsonArray_FlushesEveryInterval() throws IOException {
+        AtomicInteger flushes = new AtomicInteger();
+        OutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+
+        jsonStreamWriter.jsonArray(sink -> {
+            for (int id = 0; id < JsonStreamWriter.FLUSH_INTERVAL * 2; id++) {
+                sink.accept(id);
+            }
+            assertEquals(2, flushes.get());
+        }).writeTo(out);
+    }
+
+    @Test
+    void jsonArray_FailedWrite_StopsSource() {
+        AtomicInteger produced = new AtomicInteger();
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> jsonStreamWriter.jsonArray(sink -> {
+            for (int id = 0; id < JsonStreamWriter.FLUSH_INTERVAL * 4; id++) {
+                produced.incrementAndGet();
+                sink.accept(id);
+            }
+        }).writeTo(out));
+        assertEquals(JsonStreamWriter.FLUSH_INTERVAL, produced.get());
+    }
+
+    @Test
+    void jsonArray_UpstreamFailsAfterFirstPage_LeavesArrayUnterminated() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThrows(SystemException.class, () -> jsonStreamWriter.<AuditionPost>jsonArray(sink -> {
+            twoPosts(sink);
+            throw new SystemException("Upstream post calls are suspended", "Upstream Unavailable", 503);
+        }).writeTo(out));
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertTrue(json.startsWith("[{"));
+        assertTrue(json.endsWith("}"));
+        assertThrows(JsonProcessingException.class,
+            () -> new WebServiceConfiguration().objectMapper().readTree(json));
+    }
+}
@@ -0,0 +1,116 @@
+package com.audition.web;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.audition.cache.Versioned;
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.util.unit.DataSize;
+
+class PrecompressedPayloadsTest {
+
+    private static final List<AuditionPost> POSTS = List.of(
+        new AuditionPost(1, 1, "Title1", "Body1"),
+        new AuditionPost(1, 2, "Title2", "Body2"));
+
+    private final ObjectMapper objectMapper = new WebServiceConfiguration().objectMapper();
+
+    private final Compression compression = new Compression();
+
+    private PrecompressedPayloads precompressedPayloads;
+
+    @BeforeEach
+    void setUp() {
+        compression.setEnabled(true);
+        precompressedPayloads = new PrecompressedPayloads(objectMapper, compression, false,
+            new ResponseCacheProperties());
+    }
+
+    @Test
+    void get_SameVersion_ReusesPayload() {
+        PrecompressedPayloads.Payload first = precompressedPayloads.get("posts", new Versioned<>(POSTS, "1"));
+
+        assertSame(first, precompressedPayloads.get("posts", new Versioned<>(POSTS, "1")));
+        assertNotSame(first, precompressedPayloads.get("posts", new Versioned<>(POSTS, "2")));
+    }
+
+    @Test
+    void bytes_Identity_IsSerializedJson() throws IOException {
+        PrecompressedPayloads.Payload payload = precompressedPayloads.get("posts", new Versioned<>(POSTS, "1"));
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(POSTS), payload.bytes(ContentEncoding.IDENTITY));
+    }
+
+    @Test
+    void bytes_Gzip_IsCompressedOnceAndDecompressesToJson() throws IOException {
+        PrecompressedPayloads.Payload payload = precompressedPayloads.get("posts", new Versioned<>(POSTS, "1"));
+
+        byte[] gzip = payload.bytes(ContentEncoding.GZIP);
+        assertSame(gzip, payload.bytes(ContentEncoding.GZIP));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertArrayEquals(payload.getJson(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void negotiate_SmallPayload_IsNotCompressed() {
+        compression.setMinResponseSize(DataSize.ofKilobytes(1));
+        PrecompressedPayloads.Payload payload = precompressedPayloads.get("posts", new Versioned<>(POSTS, "1"));
+
+        assertEquals(ContentEncoding.IDENTITY, precompressedPayloads.negotiate("gzip", payload));
+    }
+
+    @Test
+    void negotiate_CompressionDisabled_IsNotCompressed() {
+        compression.setEnabled(false);
+        compression.setMinResponseSize(DataSize.ofBytes(1));
+        PrecompressedPayloads.Payload payload = precompressedPayloads.get("posts", new Versioned<>(POSTS, "1"));
+
+        assertEquals(ContentEncoding.IDENTITY, precompressedPayloads.negotiate("gzip", payload));
+    }
+
+    @Test
+    void negotiate_LargePayload_UsesAcceptedEncoding() {
+        compression.setMinResponseSize(DataSize.ofBytes(1));
+        PrecompressedPayloads.Payload payload = precompressedPayloads.get("posts", new Versioned<>(POSTS, "1"));
+
+        assertEquals(ContentEncoding.GZIP, precompressedPayloads.negotiate("gzip, br", payload));
+    }
+
+    @Test
+    void negotiate_UnbuiltVersion_AssumesCompressible() {
+        compression.setMinResponseSize(DataSize.ofKilobytes(1));
+
+        assertEquals(ContentEncoding.GZIP, precompressedPayloads.negotiate("gzip", "posts", "1"));
+        assertEquals(0, precompressedPayloads.getPayloads().estimatedSize());
+    }
+
+    @Test
+    void negotiate_BuiltVersion_UsesPayloadSize() {
+        compression.setMinResponseSize(DataSize.ofKilobytes(1));
+        precompressedPayloads.get("posts", new Versioned<>(POSTS, "1"));
+
+        assertEquals(ContentEncoding.IDENTITY, precompressedPayloads.negotiate("gzip", "posts", "1"));
+        assertEquals(ContentEncoding.GZIP, precompressedPayloads.negotiate("gzip", "posts", "2"));
+    }
+
+    @Test
+    void loadBrotli_NotRequired_ReportsLoaderWithoutFailing() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setBrotliRequired(false);
+
+        assertEquals(Brotli4jLoader.isAvailable(), PrecompressedPayloads.loadBrotli(properties));
+    }
+}